@@ -2,6 +2,14 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.9"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
+    id("org.graalvm.buildtools.native") version "0.10.6" apply false
+}
+
+// -Paot: Spring AOT で生成した初期化コードを bootJar に含める（起動時に -Dspring.aot.enabled=true を指定）
+val aot = providers.gradleProperty("aot").isPresent
+if (aot) {
+    apply(plugin = "org.graalvm.buildtools.native")
 }
 
 group = "com.example"
@@ -9,7 +17,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion.set(JavaLanguageVersion.of(17))
+        languageVersion.set(JavaLanguageVersion.of(21))
     }
 }
 
@@ -21,18 +29,91 @@ dependencies {
     implementation(platform("io.awspring.cloud:spring-cloud-aws-dependencies:3.4.2"))
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.hibernate.orm:hibernate-micrometer")
     implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     implementation("io.awspring.cloud:spring-cloud-aws-starter")
     implementation("io.awspring.cloud:spring-cloud-aws-starter-secrets-manager")
     implementation("com.fasterxml.uuid:java-uuid-generator:5.1.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     runtimeOnly("com.mysql:mysql-connector-j")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("com.h2database:h2")
+
+    jmh("com.h2database:h2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
+
+// OS スレッドと仮想スレッドの負荷比較（例: ./gradlew loadCompare -PloadArgs="concurrency=800 durationSeconds=30"）
+tasks.register<JavaExec>("loadCompare") {
+    group = "benchmark"
+    description = "Compares platform and virtual thread request execution under the same load"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.app.LoadComparison")
+    providers.gradleProperty("loadArgs").orNull?.let { args(it.split(" ")) }
+}
+
+// AOT 処理と CDS トレーニング実行は Secrets Manager / DB に接続しない設定で起動する
+val trainingConfig = layout.projectDirectory.file("tools/startup/training.yml")
+
+tasks.withType<org.springframework.boot.gradle.tasks.aot.ProcessAot>().configureEach {
+    args("--spring.config.location=file:${trainingConfig.asFile.absolutePath}")
+}
+
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsJavaLauncher = javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) }
+
+// bootJar を CDS 向けのレイアウト（build/cds）に展開する
+tasks.register<Exec>("cdsExtract") {
+    group = "build"
+    description = "Extracts the boot jar into build/cds for the CDS training run"
+    val bootJar = tasks.bootJar.flatMap { it.archiveFile }
+    inputs.file(bootJar)
+    outputs.dir(cdsDir)
+    doFirst {
+        delete(cdsDir)
+        executable = cdsJavaLauncher.get().executablePath.asFile.absolutePath
+        args("-Djarmode=tools", "-jar", bootJar.get().asFile.absolutePath,
+            "extract", "--destination", cdsDir.get().asFile.absolutePath)
+    }
+}
+
+// トレーニング実行（コンテキストの起動直後に終了）で読み込んだクラスを build/cds/app.jsa に保存する
+// 起動例: cd build/cds && java -XX:SharedArchiveFile=app.jsa [-Dspring.aot.enabled=true] -jar app-0.0.1-SNAPSHOT.jar
+tasks.register<Exec>("cdsArchive") {
+    group = "build"
+    description = "Creates a CDS archive (build/cds/app.jsa) from a training run; add -Paot to train the AOT-processed jar"
+    dependsOn("cdsExtract")
+    workingDir(cdsDir)
+    outputs.file(cdsDir.map { it.file("app.jsa") })
+    doFirst {
+        executable = cdsJavaLauncher.get().executablePath.asFile.absolutePath
+        args(listOfNotNull(
+            "-XX:ArchiveClassesAtExit=app.jsa",
+            "-Dspring.context.exit=onRefresh",
+            if (aot) "-Dspring.aot.enabled=true" else null,
+            "-jar", tasks.bootJar.get().archiveFileName.get(),
+            "--spring.config.location=file:${trainingConfig.asFile.absolutePath}",
+        ))
+    }
+}
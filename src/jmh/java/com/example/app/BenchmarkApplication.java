@@ -0,0 +1,39 @@
+package com.example.app;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ベンチマーク用のアプリケーション起動ヘルパー
+ * <p>
+ * Secrets Manager を使わず H2 インメモリ DB（classpath:/jmh.yml）で起動する。
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Web サーバーなしでアプリケーションコンテキストを起動
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        return run(WebApplicationType.NONE, args);
+    }
+
+    /**
+     * 組み込み Web サーバー付きでアプリケーションコンテキストを起動
+     */
+    public static ConfigurableApplicationContext startWeb(String... args) {
+        return run(WebApplicationType.SERVLET, args);
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, String... args) {
+        SpringApplication application = new SpringApplication(SpringBootTemplateApplication.class);
+        application.setWebApplicationType(webApplicationType);
+        String[] arguments = new String[args.length + 1];
+        arguments[0] = "--spring.config.location=classpath:/jmh.yml";
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        return application.run(arguments);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.app;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.OrderNumberGenerator;
+import com.example.app.usecase.order.OrderRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OS スレッドと仮想スレッドのリクエスト処理を同じ負荷で比較する負荷ドライバー
+ * <p>
+ * H2 上でアプリケーションを 2 回（spring.threads.virtual.enabled=false/true）起動し、
+ * GET /orders/{orderNumber} と POST /orders を 9:1 で送り続けて rps と p50/p99 レイテンシを TSV で出力する。
+ * 引数は concurrency=400 warmupSeconds=5 durationSeconds=20 の形式で指定する。
+ * "--" で始まる引数はそのままアプリケーションに渡す（例: --server.tomcat.threads.max=50）。
+ */
+public final class LoadComparison {
+
+    private static final int SEED_ORDERS = 1_000;
+
+    private static final String CREATE_ORDER_BODY = "{\"customerName\":\"Load Test\",\"totalAmount\":1000}";
+
+    private LoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmupSeconds", "5")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("durationSeconds", "20")));
+
+        List<String> lines = new ArrayList<>();
+        lines.add("mode\tconcurrency\trequests\terrors\trps\tp50_ms\tp99_ms");
+        for (boolean virtual : new boolean[]{false, true}) {
+            Result result = run(virtual, concurrency, warmup, duration, applicationArgs);
+            lines.add(String.format("%s\t%d\t%d\t%d\t%.1f\t%.2f\t%.2f",
+                    virtual ? "virtual" : "platform", concurrency, result.requests(), result.errors(),
+                    result.requests() / (double) duration.toSeconds(), result.p50Millis(), result.p99Millis()));
+        }
+        lines.forEach(System.out::println);
+    }
+
+    private static Result run(boolean virtual, int concurrency, Duration warmup, Duration duration,
+                              List<String> applicationArgs) throws InterruptedException, ExecutionException {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.datasource.url=jdbc:h2:mem:load" + (virtual ? "virtual" : "platform")
+                        + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"));
+        arguments.addAll(applicationArgs);
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.startWeb(arguments.toArray(String[]::new));
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+            List<String> orderNumbers = seed(context);
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/orders");
+            drive(client, baseUri, orderNumbers, concurrency, warmup);
+            return drive(client, baseUri, orderNumbers, concurrency, duration);
+        }
+    }
+
+    private static List<String> seed(ConfigurableApplicationContext context) {
+        OrderNumberGenerator orderNumberGenerator = context.getBean(OrderNumberGenerator.class);
+        List<Order> orders = new ArrayList<>(SEED_ORDERS);
+        for (int i = 0; i < SEED_ORDERS; i++) {
+            orders.add(new Order(orderNumberGenerator.generate(), "Customer " + i, Money.ofMinor(100_000 + i * 100L),
+                    OrderStatus.PENDING));
+        }
+        context.getBean(OrderRepository.class).saveAll(orders);
+        return orders.stream().map(Order::orderNumber).toList();
+    }
+
+    private static Result drive(HttpClient client, URI baseUri, List<String> orderNumbers, int concurrency,
+                                Duration duration) throws InterruptedException, ExecutionException {
+        HttpRequest create = HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_ORDER_BODY))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Recorder>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = random.nextInt(10) == 0
+                                ? create
+                                : HttpRequest.newBuilder(URI.create(baseUri + "/"
+                                        + orderNumbers.get(random.nextInt(orderNumbers.size())))).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() < 400) {
+                                recorder.record(System.nanoTime() - start);
+                            } else {
+                                recorder.errors++;
+                            }
+                        } catch (IOException e) {
+                            recorder.errors++;
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> worker : workers) {
+            total.merge(worker.get());
+        }
+        return total.result();
+    }
+
+    private record Result(long requests, long errors, double p50Millis, double p99Millis) {
+    }
+
+    /**
+     * ワーカーごとのレイテンシ記録（ナノ秒）
+     */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+
+        Result result() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(size, errors, percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.app.controller;
+
+import com.example.app.controller.common.MoneyJsonComponent;
+import com.example.app.controller.hello.HelloJsonComponent;
+import com.example.app.controller.hello.HelloResponse;
+import com.example.app.controller.order.OrderJsonComponent;
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson によるシリアライズのベンチマーク
+ * <p>
+ * order / orderList / helloResponse はアプリと同じ手書きシリアライザー、*Reflective は既定のシリアライザー。
+ * orderList* は形式（JSON / CBOR / Smile）ごとの時間と、補助カウンター payloadBytes に 1 回分の出力バイト数を記録する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    private final Order order = new Order("ORD-001", "山田太郎", Money.parse("15000.00"), OrderStatus.COMPLETED);
+    private final HelloResponse helloResponse = new HelloResponse("Hello, World!", "2025-12-20T00:00:00Z");
+
+    private ObjectWriter orderWriter;
+    private ObjectWriter orderListWriter;
+    private ObjectWriter helloWriter;
+    private ObjectWriter reflectiveOrderListWriter;
+    private ObjectWriter reflectiveHelloWriter;
+    private ObjectWriter cborOrderListWriter;
+    private ObjectWriter smileOrderListWriter;
+    private List<Order> orders;
+
+    /**
+     * 1 回のシリアライズで出力したバイト数（JMH の結果に payloadBytes として出力される）
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+        byte[] record(byte[] bytes) {
+            payloadBytes = bytes.length;
+            return bytes;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = mapper(new JsonFactory(), true);
+        orderWriter = objectMapper.writerFor(Order.class);
+        orderListWriter = listWriter(objectMapper);
+        helloWriter = objectMapper.writerFor(HelloResponse.class);
+
+        ObjectMapper reflectiveMapper = mapper(new JsonFactory(), false);
+        reflectiveOrderListWriter = listWriter(reflectiveMapper);
+        reflectiveHelloWriter = reflectiveMapper.writerFor(HelloResponse.class);
+
+        cborOrderListWriter = listWriter(mapper(new CBORFactory(), true));
+        smileOrderListWriter = listWriter(mapper(new SmileFactory(), true));
+
+        orders = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            orders.add(new Order("ORD-" + i, "山田太郎", Money.ofMinor(1_500_000 + i * 100L), OrderStatus.values()[i % 5]));
+        }
+    }
+
+    @Benchmark
+    public byte[] order() throws JsonProcessingException {
+        return orderWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderList(Payload payload) throws JsonProcessingException {
+        return payload.record(orderListWriter.writeValueAsBytes(orders));
+    }
+
+    @Benchmark
+    public byte[] orderListReflective(Payload payload) throws JsonProcessingException {
+        return payload.record(reflectiveOrderListWriter.writeValueAsBytes(orders));
+    }
+
+    @Benchmark
+    public byte[] orderListCbor(Payload payload) throws JsonProcessingException {
+        return payload.record(cborOrderListWriter.writeValueAsBytes(orders));
+    }
+
+    @Benchmark
+    public byte[] orderListSmile(Payload payload) throws JsonProcessingException {
+        return payload.record(smileOrderListWriter.writeValueAsBytes(orders));
+    }
+
+    @Benchmark
+    public byte[] helloResponse() throws JsonProcessingException {
+        return helloWriter.writeValueAsBytes(helloResponse);
+    }
+
+    @Benchmark
+    public byte[] helloResponseReflective() throws JsonProcessingException {
+        return reflectiveHelloWriter.writeValueAsBytes(helloResponse);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory, boolean handWritten) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().factory(factory);
+        if (handWritten) {
+            builder.modulesToInstall(MoneyJsonComponent.module(), OrderJsonComponent.module(),
+                    HelloJsonComponent.module());
+        } else {
+            builder.modulesToInstall(MoneyJsonComponent.module());
+        }
+        return builder.build();
+    }
+
+    private static ObjectWriter listWriter(ObjectMapper objectMapper) {
+        return objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Order.class));
+    }
+}
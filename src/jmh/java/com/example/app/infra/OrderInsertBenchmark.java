@@ -0,0 +1,82 @@
+package com.example.app.infra;
+
+import com.example.app.BenchmarkApplication;
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.order.OrderJpaRepository;
+import com.example.app.usecase.order.OrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注文保存のベンチマーク
+ * <p>
+ * 1 件ずつ save() する経路と saveAll() による JDBC バッチ経路を rows/sec で比較する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private OrderJpaRepository orderJpaRepository;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        orderRepository = context.getBean(OrderRepository.class);
+        orderJpaRepository = context.getBean(OrderJpaRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        orderJpaRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Order> singleInsert() {
+        List<Order> saved = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            saved.add(orderRepository.save(nextOrder()));
+        }
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Order> batchInsert() {
+        List<Order> orders = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            orders.add(nextOrder());
+        }
+        return orderRepository.saveAll(orders);
+    }
+
+    private Order nextOrder() {
+        return new Order("BENCH-" + sequence++, "ベンチ太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.app.infra;
+
+import com.example.app.BenchmarkApplication;
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.order.OrderJpaRepository;
+import com.example.app.infra.order.OrderMapper;
+import com.example.app.infra.order.OrderReadRepository;
+import com.example.app.usecase.order.OrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注文一覧読み取りのベンチマーク
+ * <p>
+ * 管理エンティティ + OrderMapper の経路と、読み取り専用の射影クエリを比較する。
+ * あわせて注文番号による 1 件検索を計測する。
+ * 金額の読み取り方式は、Money への直接解析（projection）と、以前の Double（getDouble）・
+ * BigDecimal（getBigDecimal）経由の読み取りを同じクエリで比較する。
+ * 1 行あたりのアロケーション量は gc プロファイラの gc.alloc.rate.norm で確認する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderReadBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private static final String SELECT_ORDERS =
+            "SELECT order_number, customer_name, total_amount, status FROM orders ORDER BY id";
+
+    private static final RowMapper<DoubleAmountOrder> DOUBLE_AMOUNT_ROW_MAPPER = (rs, rowNum) -> new DoubleAmountOrder(
+            rs.getString(1), rs.getString(2), rs.getDouble(3), OrderStatus.valueOf(rs.getString(4)));
+
+    private static final RowMapper<DecimalAmountOrder> DECIMAL_AMOUNT_ROW_MAPPER = (rs, rowNum) -> new DecimalAmountOrder(
+            rs.getString(1), rs.getString(2), rs.getBigDecimal(3), OrderStatus.valueOf(rs.getString(4)));
+
+    private ConfigurableApplicationContext context;
+    private OrderJpaRepository orderJpaRepository;
+    private OrderMapper orderMapper;
+    private OrderReadRepository orderReadRepository;
+    private OrderRepository orderRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        orderJpaRepository = context.getBean(OrderJpaRepository.class);
+        orderMapper = context.getBean(OrderMapper.class);
+        orderReadRepository = context.getBean(OrderReadRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Order> orders = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            orders.add(new Order("READ-" + i, "ベンチ太郎", Money.ofMinor(100_000 + i * 101L), OrderStatus.values()[i % 5]));
+        }
+        orderRepository = context.getBean(OrderRepository.class);
+        orderRepository.saveAll(orders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Order> managedEntities() {
+        return readOnlyTransaction.execute(status -> orderJpaRepository.findAll().stream()
+                .flatMap(t -> orderMapper.toDomain(t).stream())
+                .toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Order> projection() {
+        return orderReadRepository.findAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<DoubleAmountOrder> projectionDoubleAmount() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.query(SELECT_ORDERS, DOUBLE_AMOUNT_ROW_MAPPER));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<DecimalAmountOrder> projectionDecimalAmount() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.query(SELECT_ORDERS, DECIMAL_AMOUNT_ROW_MAPPER));
+    }
+
+    @Benchmark
+    public Optional<Order> findByOrderNumber() {
+        return orderRepository.findByOrderNumber("READ-5000");
+    }
+
+    /**
+     * 金額を Double で保持していた頃の Order
+     */
+    public record DoubleAmountOrder(String orderNumber, String customerName, Double totalAmount, OrderStatus status) {
+    }
+
+    /**
+     * 金額を BigDecimal で保持する場合の Order
+     */
+    public record DecimalAmountOrder(String orderNumber, String customerName, BigDecimal totalAmount,
+                                     OrderStatus status) {
+    }
+}
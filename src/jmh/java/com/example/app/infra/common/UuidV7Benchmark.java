@@ -0,0 +1,84 @@
+package com.example.app.infra.common;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUIDv7 生成のベンチマーク
+ * <p>
+ * 呼び出しごとに生成器を構築する従来の方式、共有の TimeBasedEpochGenerator、
+ * 共有の UuidV7Factory を 1 / 8 / 32 スレッドで比較する。
+ * アロケーション量は {@code -prof gc} で確認する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidV7Benchmark {
+
+    private final TimeBasedEpochGenerator sharedEpochGenerator = Generators.timeBasedEpochGenerator();
+    private final UuidV7Factory factory = UuidV7Factory.shared();
+
+    @Benchmark
+    @Threads(1)
+    public UUID perCallGenerator_1() {
+        return Generators.timeBasedEpochGenerator().generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID perCallGenerator_8() {
+        return Generators.timeBasedEpochGenerator().generate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UUID perCallGenerator_32() {
+        return Generators.timeBasedEpochGenerator().generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID sharedEpochGenerator_1() {
+        return sharedEpochGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID sharedEpochGenerator_8() {
+        return sharedEpochGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UUID sharedEpochGenerator_32() {
+        return sharedEpochGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID uuidV7Factory_1() {
+        return factory.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7Factory_8() {
+        return factory.generate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UUID uuidV7Factory_32() {
+        return factory.generate();
+    }
+}
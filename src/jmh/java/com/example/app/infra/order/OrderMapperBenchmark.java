@@ -0,0 +1,46 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderMapper の変換ベンチマーク
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMapperBenchmark {
+
+    private final OrderMapper orderMapper = new OrderMapper();
+
+    private final OrderTable table = OrderTable.builder()
+            .id(UUID.fromString("019469e0-0000-7000-8000-000000000001"))
+            .orderNumber("ORD-001")
+            .customerName("山田太郎")
+            .totalAmount(Money.parse("15000.00"))
+            .status(OrderStatus.COMPLETED)
+            .build();
+
+    private final Order order = new Order("ORD-001", "山田太郎", Money.parse("15000.00"), OrderStatus.COMPLETED);
+
+    @Benchmark
+    public Optional<Order> toDomain() {
+        return orderMapper.toDomain(table);
+    }
+
+    @Benchmark
+    public OrderTable toTable() {
+        return orderMapper.toTable(order);
+    }
+}
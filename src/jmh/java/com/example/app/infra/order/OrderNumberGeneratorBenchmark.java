@@ -0,0 +1,34 @@
+package com.example.app.infra.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注文番号生成のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderNumberGeneratorBenchmark {
+
+    private final TimestampOrderNumberGenerator generator = new TimestampOrderNumberGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public String generate_1() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generate_8() {
+        return generator.generate();
+    }
+}
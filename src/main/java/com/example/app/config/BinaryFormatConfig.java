@@ -0,0 +1,35 @@
+package com.example.app.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * バイナリ形式（CBOR / Smile）の HttpMessageConverter 設定
+ * <p>
+ * Accept: application/cbor または application/x-jackson-smile を指定すると、JSON の代わりにバイナリ形式で応答する。
+ * Spring Boot の Jackson2ObjectMapperBuilder から作るため、@JsonComponent のシリアライザー等は JSON と共通。
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * CBOR（RFC 8949）
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile（Jackson のバイナリ JSON）
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.app.config;
+
+import com.example.app.infra.order.OrderArchiver;
+import com.example.app.infra.order.OrderPurger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 注文アーカイブの Bean 設定
+ * <p>
+ * app.order.archive.enabled=true の場合のみ登録する。実行間隔は app.order.archive.interval。
+ */
+@Configuration
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+@ConditionalOnProperty(prefix = "app.order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveConfig {
+
+    /**
+     * 完了済み注文のアーカイブ
+     */
+    @Bean
+    public OrderArchiver orderArchiver(OrderPurger orderPurger, ApplicationEventPublisher eventPublisher,
+                                       OrderArchiveProperties properties) {
+        return new OrderArchiver(orderPurger, eventPublisher, Clock.systemUTC(), properties.statuses(),
+                properties.retention(), properties.batchSize(), properties.batchPause());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.app.config;
+
+import com.example.app.domain.order.OrderStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 注文アーカイブの設定
+ *
+ * @param enabled    定期アーカイブを行うか
+ * @param interval   アーカイブの実行間隔
+ * @param retention  作成からこの期間を過ぎた注文をアーカイブする
+ * @param statuses   アーカイブ対象のステータス
+ * @param batchSize  1 トランザクションで移動する最大件数
+ * @param batchPause チャンクの間の待ち時間（稼働中のリクエストへの影響を抑える）
+ */
+@ConfigurationProperties(prefix = "app.order.archive")
+public record OrderArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("90d") Duration retention,
+        @DefaultValue({"COMPLETED", "CANCELLED"}) Set<OrderStatus> statuses,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration batchPause) {
+}
@@ -0,0 +1,45 @@
+package com.example.app.config;
+
+import com.example.app.domain.order.Order;
+import com.example.app.infra.order.CachingOrderRepository;
+import com.example.app.infra.order.OrderRepositoryImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 注文キャッシュの Bean 設定
+ * <p>
+ * app.order.cache.enabled=true の場合のみ、OrderRepositoryImpl をキャッシュでラップした
+ * リポジトリを優先 Bean として登録する。コントローラーは OrderRepository ポート経由で利用するため変更不要。
+ */
+@Configuration
+@EnableConfigurationProperties(OrderCacheProperties.class)
+@ConditionalOnProperty(prefix = "app.order.cache", name = "enabled", havingValue = "true")
+public class OrderCacheConfig {
+
+    /**
+     * キャッシュ付き注文リポジトリ
+     *
+     * @return OrderRepositoryImpl を委譲先とする CachingOrderRepository
+     */
+    @Bean
+    @Primary
+    public CachingOrderRepository cachingOrderRepository(OrderRepositoryImpl orderRepositoryImpl,
+                                                         OrderCacheProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        Cache<String, Order> cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "orders.by-order-number");
+        return new CachingOrderRepository(orderRepositoryImpl, cache);
+    }
+}
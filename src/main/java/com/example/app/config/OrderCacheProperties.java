@@ -0,0 +1,20 @@
+package com.example.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 注文キャッシュの設定
+ *
+ * @param enabled          キャッシュを有効にするか
+ * @param maximumSize      最大エントリ数
+ * @param expireAfterWrite 書き込み（読み込み）からの有効期間
+ */
+@ConfigurationProperties(prefix = "app.order.cache")
+public record OrderCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration expireAfterWrite) {
+}
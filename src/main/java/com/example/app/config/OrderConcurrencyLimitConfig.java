@@ -0,0 +1,68 @@
+package com.example.app.config;
+
+import com.example.app.infra.common.AdaptiveConcurrencyFilter;
+import com.example.app.infra.common.AimdConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * 注文 API の同時実行数制限の Bean 設定
+ * <p>
+ * app.order.concurrency-limit.enabled=true の場合のみ、/orders 配下に AdaptiveConcurrencyFilter を登録する。
+ * 一括作成と一括ステータス変更は処理時間が長く上限を押し下げるため対象外とする。
+ * 拒否した応答も http.server.requests に記録されるよう、計測フィルターより内側に置く。
+ */
+@Configuration
+@EnableConfigurationProperties(OrderConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.order.concurrency-limit", name = "enabled", havingValue = "true")
+public class OrderConcurrencyLimitConfig {
+
+    /**
+     * 同時実行数を制限しない一括処理のパス
+     */
+    static final Set<String> EXCLUDED_PATHS = Set.of("/orders/batch", "/orders/status-transitions");
+
+    /**
+     * 注文 API の流入制御フィルター
+     */
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> orderConcurrencyLimitFilter(
+            OrderConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        AimdConcurrencyLimiter reads = limiter(properties.reads(), properties.backoffRatio(), "read", meterRegistry);
+        AimdConcurrencyLimiter writes = limiter(properties.writes(), properties.backoffRatio(), "write",
+                meterRegistry);
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration = new FilterRegistrationBean<>(
+                new AdaptiveConcurrencyFilter(reads, writes, EXCLUDED_PATHS));
+        registration.addUrlPatterns("/orders", "/orders/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static AimdConcurrencyLimiter limiter(OrderConcurrencyLimitProperties.Limit limit, double backoffRatio,
+                                                  String kind, MeterRegistry meterRegistry) {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(limit.initialLimit(), limit.minLimit(),
+                limit.maxLimit(), limit.latencyThreshold(), backoffRatio, System::nanoTime);
+        Gauge.builder("orders.concurrency.limit", limiter, AimdConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("kind", kind)
+                .register(meterRegistry);
+        Gauge.builder("orders.concurrency.in-flight", limiter, AimdConcurrencyLimiter::inFlight)
+                .description("Requests currently holding a concurrency permit")
+                .tag("kind", kind)
+                .register(meterRegistry);
+        FunctionCounter.builder("orders.concurrency.rejected", limiter, AimdConcurrencyLimiter::rejectedCount)
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("kind", kind)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
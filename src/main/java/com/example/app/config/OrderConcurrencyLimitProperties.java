@@ -0,0 +1,37 @@
+package com.example.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 注文 API の同時実行数制限の設定
+ *
+ * @param enabled      同時実行数を制限するか
+ * @param backoffRatio 過負荷時に上限へ掛ける比率
+ * @param reads        GET / HEAD / OPTIONS の上限
+ * @param writes       それ以外のメソッドの上限
+ */
+@ConfigurationProperties(prefix = "app.order.concurrency-limit")
+public record OrderConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue Limit reads,
+        @DefaultValue Limit writes) {
+
+    /**
+     * 上限の設定
+     *
+     * @param initialLimit     起動時の上限
+     * @param minLimit         上限の下限
+     * @param maxLimit         上限の上限
+     * @param latencyThreshold これを超えた処理時間を過負荷とみなす
+     */
+    public record Limit(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("250ms") Duration latencyThreshold) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.app.config;
+
+import com.example.app.infra.order.WriteBehindOrderIngestor;
+import com.example.app.usecase.order.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 注文の非同期受付の Bean 設定
+ * <p>
+ * app.order.ingestion.enabled=true の場合のみ登録する。未登録の場合 POST /orders は同期保存のまま。
+ */
+@Configuration
+@EnableConfigurationProperties(OrderIngestionProperties.class)
+@ConditionalOnProperty(prefix = "app.order.ingestion", name = "enabled", havingValue = "true")
+public class OrderIngestionConfig {
+
+    /**
+     * ライトビハインド方式の注文受付
+     */
+    @Bean
+    public WriteBehindOrderIngestor writeBehindOrderIngestor(OrderRepository orderRepository,
+                                                             OrderIngestionProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        WriteBehindOrderIngestor ingestor = new WriteBehindOrderIngestor(orderRepository,
+                properties.queueCapacity(), properties.maxBatchSize(), properties.shutdownTimeout(),
+                properties.retryTimeout());
+        Gauge.builder("orders.ingestion.queue.size", ingestor, WriteBehindOrderIngestor::queueSize)
+                .description("Orders accepted but not yet committed")
+                .register(meterRegistry);
+        return ingestor;
+    }
+}
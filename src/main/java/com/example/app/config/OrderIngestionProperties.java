@@ -0,0 +1,24 @@
+package com.example.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 注文の非同期受付の設定
+ *
+ * @param enabled         POST /orders を非同期受付（202 Accepted）にするか
+ * @param queueCapacity   書き込みキューの容量（満杯時は 503 を返す）
+ * @param maxBatchSize    1 トランザクションでまとめて保存する最大件数
+ * @param shutdownTimeout 停止時にキューを書き切るまでの最大待ち時間
+ * @param retryTimeout    DB 障害などの一時的な失敗を再試行し続ける最大時間（超えた注文は FAILED とする）
+ */
+@ConfigurationProperties(prefix = "app.order.ingestion")
+public record OrderIngestionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("30s") Duration shutdownTimeout,
+        @DefaultValue("1m") Duration retryTimeout) {
+}
@@ -0,0 +1,81 @@
+package com.example.app.config;
+
+import com.example.app.infra.common.ReadWriteSplittingDataSource;
+import com.example.app.infra.common.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 読み取りレプリカの Bean 設定
+ * <p>
+ * app.datasource.read-replicas.enabled=true の場合のみ、spring.datasource のプライマリと
+ * app.datasource.read-replicas.urls のレプリカをまとめた ReadWriteSplittingDataSource を DataSource として登録する。
+ * 接続プールの設定（spring.datasource.hikari.*）はプライマリとレプリカで共通。
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * 読み書き分離 DataSource
+     */
+    @Bean
+    public ReadWriteSplittingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                   ReadReplicaProperties properties,
+                                                   Environment environment,
+                                                   MeterRegistry meterRegistry) {
+        if (properties.urls().isEmpty()) {
+            throw new IllegalStateException("app.datasource.read-replicas.urls must not be empty");
+        }
+        HikariDataSource primary = pool(dataSourceProperties, dataSourceProperties.determineUrl(), "primary",
+                environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>(properties.urls().size());
+        for (int i = 0; i < properties.urls().size(); i++) {
+            replicas.add(pool(dataSourceProperties, properties.urls().get(i), "replica-" + i,
+                    environment, meterRegistry));
+        }
+        return new ReadWriteSplittingDataSource(primary, replicas, properties.loadBalancing());
+    }
+
+    /**
+     * 書き込み直後の読み取りをプライマリへ固定するフィルター
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.readYourWrites(), Clock.systemUTC()));
+        registration.setEnabled(!properties.readYourWrites().isZero());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, String url, String poolName,
+                                         Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        // hikaricp.connections.* をプールごとに記録する
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
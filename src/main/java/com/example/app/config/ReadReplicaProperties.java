@@ -0,0 +1,24 @@
+package com.example.app.config;
+
+import com.example.app.infra.common.ReadWriteSplittingDataSource.LoadBalancing;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 読み取りレプリカの設定
+ *
+ * @param enabled        読み取り専用トランザクションをレプリカへ振り分けるか
+ * @param urls           レプリカの JDBC URL（ユーザー名・パスワードは spring.datasource と共通）
+ * @param loadBalancing  レプリカの選び方（round-robin / least-busy）
+ * @param readYourWrites 書き込み後、同じクライアントの読み取りをプライマリへ固定する期間（0 で無効）
+ */
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        @DefaultValue("round-robin") LoadBalancing loadBalancing,
+        @DefaultValue("2s") Duration readYourWrites) {
+}
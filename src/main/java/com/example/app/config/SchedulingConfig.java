@@ -0,0 +1,12 @@
+package com.example.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行タスクの設定
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,7 @@
 package com.example.app.config;
 
-import com.fasterxml.uuid.Generators;
+import com.example.app.infra.common.UuidV7Factory;
 import com.fasterxml.uuid.UUIDComparator;
-import com.fasterxml.uuid.impl.TimeBasedEpochGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,13 +19,15 @@ import java.util.UUID;
 public class UuidConfig {
 
     /**
-     * UUIDv7 (Time-based Epoch) ジェネレーター
+     * UUIDv7 ファクトリー
+     * <p>
+     * Hibernate の主キー生成と同じインスタンスを返すため、アプリケーションで生成した ID とも単調増加が保たれる。
      *
-     * @return TimeBasedEpochGenerator インスタンス
+     * @return 共有の UuidV7Factory インスタンス
      */
     @Bean
-    public TimeBasedEpochGenerator timeBasedEpochGenerator() {
-        return Generators.timeBasedEpochGenerator();
+    public UuidV7Factory uuidV7Factory() {
+        return UuidV7Factory.shared();
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.example.app.config;
+
+import com.example.app.infra.common.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 仮想スレッド実行モードの Bean 設定
+ * <p>
+ * spring.threads.virtual.enabled=true の場合、Tomcat のリクエスト処理は仮想スレッドで行われる。
+ * 同時リクエスト数がスレッドプールで抑えられなくなるため、DataSource を ConcurrencyLimitedDataSource で
+ * ラップして JDBC の同時実行数を app.jdbc.max-concurrency に制限する。
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * JDBC 同時実行数の既定値（HikariCP の既定プールサイズと同じ）
+     */
+    static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    /**
+     * 許可待ちの既定タイムアウト
+     */
+    static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * DataSource を同時実行数制限付きでラップする
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                return new ConcurrencyLimitedDataSource(dataSource,
+                        environment.getProperty("app.jdbc.max-concurrency", Integer.class, DEFAULT_MAX_CONCURRENCY),
+                        environment.getProperty("app.jdbc.acquire-timeout", Duration.class, DEFAULT_ACQUIRE_TIMEOUT));
+            }
+        };
+    }
+}
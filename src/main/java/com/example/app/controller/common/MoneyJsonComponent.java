@@ -0,0 +1,73 @@
+package com.example.app.controller.common;
+
+import com.example.app.domain.common.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * Money の JSON 変換
+ * <p>
+ * JSON では小数点以下 2 桁の数値（例: 1234.50）として表す。CBOR / Smile では 10 進数（BigDecimal）として書き出す。
+ * 読み込みはパーサーのトークン文字列を直接解析し、double / BigDecimal を経由しない。
+ * 数値のほか "1234.50" のような文字列も受け付ける。
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    /**
+     * Spring の ObjectMapper を使わない場合（ベンチマーク等）に登録するモジュール
+     */
+    public static SimpleModule module() {
+        return new SimpleModule("MoneyModule")
+                .addSerializer(Money.class, new Serializer())
+                .addDeserializer(Money.class, new Deserializer());
+    }
+
+    public static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (gen.canWriteFormattedNumbers()) {
+                gen.writeNumber(value.toString());
+            } else {
+                // バイナリ形式は数値の文字列表現を書けない（文字列として書き出される）ため 10 進数で書く
+                gen.writeNumber(value.toBigDecimal());
+            }
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+                return Money.ofMinor(Math.multiplyExact((long) p.getIntValue(), 100L));
+            }
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            }
+            try {
+                if (token == JsonToken.VALUE_NUMBER_FLOAT
+                        && p.getNumberTypeFP() == JsonParser.NumberTypeFP.BIG_DECIMAL) {
+                    // CBOR / Smile の 10 進数
+                    return Money.of(p.getDecimalValue());
+                }
+                return Money.parse(CharBuffer.wrap(p.getTextCharacters()), p.getTextOffset(), p.getTextLength());
+            } catch (NumberFormatException | ArithmeticException e) {
+                return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.app.controller.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 応答の本文を書き出す前に、Spring MVC が選ぶ Content-Type を求める
+ * <p>
+ * 本文を読み込まずに形式ごとの ETag で条件付き GET を判定するために使う。
+ * ContentNegotiationManager で解決した受け入れ可能な形式と、登録済みの HttpMessageConverter が書き出せる形式を
+ * Spring MVC（AbstractMessageConverterMethodProcessor）と同じ手順で突き合わせる。
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseMediaTypes {
+
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final HttpMessageConverters httpMessageConverters;
+
+    /**
+     * valueClass の本文に選ばれる Content-Type
+     *
+     * @return 書き出せる形式がない場合（406 Not Acceptable になる場合）は空
+     */
+    public Optional<MediaType> select(NativeWebRequest webRequest, Class<?> valueClass) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(webRequest);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return Optional.empty();
+        }
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType requested : acceptable) {
+            for (MediaType producible : producible(valueClass)) {
+                if (requested.isCompatibleWith(producible)) {
+                    compatible.add(mostSpecific(requested, producible));
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        for (MediaType mediaType : compatible) {
+            if (mediaType.isConcrete()) {
+                return Optional.of(mediaType.removeQualityValue());
+            }
+            if (mediaType.isPresentIn(List.of(MediaType.ALL, new MediaType("application")))) {
+                return Optional.of(MediaType.APPLICATION_OCTET_STREAM);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Set<MediaType> producible(Class<?> valueClass) {
+        Set<MediaType> producible = new LinkedHashSet<>();
+        for (HttpMessageConverter<?> converter : httpMessageConverters.getConverters()) {
+            boolean canWrite = converter instanceof GenericHttpMessageConverter<?> generic
+                    ? generic.canWrite(valueClass, valueClass, null)
+                    : converter.canWrite(valueClass, null);
+            if (canWrite) {
+                producible.addAll(converter.getSupportedMediaTypes(valueClass));
+            }
+        }
+        return producible;
+    }
+
+    private static MediaType mostSpecific(MediaType acceptType, MediaType produceType) {
+        MediaType produceTypeToUse = produceType.copyQualityValue(acceptType);
+        return acceptType.isLessSpecific(produceTypeToUse) ? produceTypeToUse : acceptType;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.app.controller.hello;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * HelloResponse の JSON 変換（リフレクションを使わずにフィールドを直接書き出す）
+ */
+@JsonComponent
+public class HelloJsonComponent {
+
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    /**
+     * Spring の ObjectMapper を使わない場合（ベンチマーク等）に登録するモジュール
+     */
+    public static SimpleModule module() {
+        return new SimpleModule("HelloModule")
+                .addSerializer(HelloResponse.class, new Serializer());
+    }
+
+    public static class Serializer extends JsonSerializer<HelloResponse> {
+
+        @Override
+        public void serialize(HelloResponse value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(value.getMessage());
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeString(value.getTimestamp());
+            gen.writeEndObject();
+        }
+    }
+}
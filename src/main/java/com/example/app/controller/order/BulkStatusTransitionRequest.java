@@ -0,0 +1,22 @@
+package com.example.app.controller.order;
+
+import com.example.app.domain.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 注文ステータス一括変更リクエスト
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusTransitionRequest {
+    private OrderStatus from;
+    private OrderStatus to;
+    private LocalDateTime createdBefore;
+}
@@ -0,0 +1,15 @@
+package com.example.app.controller.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注文ステータス一括変更レスポンス
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusTransitionResponse {
+    private int updated;
+}
@@ -1,12 +1,11 @@
 package com.example.app.controller.order;
 
+import com.example.app.domain.common.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * 注文作成リクエスト
  */
@@ -16,5 +15,5 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class CreateOrderRequest {
     private String customerName;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 }
@@ -0,0 +1,17 @@
+package com.example.app.controller.order;
+
+import com.example.app.usecase.order.IngestionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 非同期受付した注文の永続化状況レスポンス
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionStatusResponse {
+    private String orderNumber;
+    private IngestionStatus status;
+}
@@ -1,20 +1,51 @@
 package com.example.app.controller.order;
 
+import com.example.app.controller.common.ResponseMediaTypes;
 import com.example.app.domain.order.Order;
 import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.InvalidCursorException;
+import com.example.app.usecase.order.OrderChange;
+import com.example.app.usecase.order.OrderChangeFeed;
+import com.example.app.usecase.order.OrderChangeVersions;
+import com.example.app.usecase.order.OrderIngestor;
+import com.example.app.usecase.order.OrderNumberGenerator;
+import com.example.app.usecase.order.OrderPage;
 import com.example.app.usecase.order.OrderRepository;
+import com.example.app.usecase.order.OrderStatistics;
+import com.example.app.usecase.order.OrderStatusSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 注文コントローラー
@@ -25,49 +56,360 @@ public class OrderController {
 
     static final String API_PATH = "/orders";
 
+    /**
+     * 1 ページあたりの最大件数
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 一括作成の最大件数
+     */
+    static final int MAX_BATCH_SIZE = 10000;
+
+    /**
+     * 顧客名検索の既定件数
+     */
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+
     private final OrderRepository orderRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderStatistics orderStatistics;
+    private final OrderChangeVersions orderChangeVersions;
+    private final OrderChangeFeed orderChangeFeed;
+    private final ObjectProvider<OrderIngestor> orderIngestor;
+    private final ObjectMapper objectMapper;
+    private final ResponseMediaTypes responseMediaTypes;
 
     /**
      * 注文一覧取得
+     * <p>
+     * If-None-Match が現在の変更バージョンと一致する場合は、注文を読み込まずに 304 Not Modified を返す。
+     * バージョンは If-None-Match を送ったリクエストでのみ事前に読む。
      */
     @GetMapping(API_PATH)
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public ResponseEntity<List<Order>> getAllOrders(ServletWebRequest webRequest) {
+        Optional<MediaType> mediaType = representation(webRequest, List.class);
+        if (mediaType.isPresent() && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eTag(orderChangeVersions.current(), mediaType.get()))) {
+            return null;
+        }
+        // ETag は本文と同じ読み取りで求める（バージョンの取得後に変更されても本文と食い違わない）
+        OrderChangeVersions.Versioned<List<Order>> orders = orderChangeVersions.withVersion(orderRepository::findAll);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        mediaType.ifPresent(type -> response.eTag(eTag(orders.version(), type)));
+        return response.body(orders.value());
+    }
+
+    /**
+     * 注文一覧取得（キーセットページング）
+     * <p>
+     * limit を指定した場合はページ単位で返す。次ページは nextCursor を after に指定して取得する。
+     */
+    @GetMapping(value = API_PATH, params = "limit")
+    public ResponseEntity<OrderPage> getOrderPage(@RequestParam int limit,
+                                                  @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderRepository.findPage(after, limit));
+    }
+
+    /**
+     * 複数の注文番号で注文一覧取得
+     * <p>
+     * numbers（カンマ区切り、最大 MAX_PAGE_SIZE 件）の注文を 1 回の検索で取得し、指定した順で返す。
+     * 存在しない注文番号は結果に含めない。
+     */
+    @GetMapping(value = API_PATH, params = "numbers")
+    public ResponseEntity<List<Order>> getOrdersByOrderNumbers(@RequestParam List<String> numbers) {
+        if (numbers.isEmpty() || numbers.size() > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderRepository.findByOrderNumbers(numbers));
+    }
+
+    /**
+     * 作成日時の範囲で注文一覧取得（キーセットページング）
+     * <p>
+     * createdFrom 以上 createdTo 未満（ISO-8601 の日時、例: 2026-01-01T00:00:00Z）の注文を ID 昇順で返す。
+     * 作成日時は created_at カラムではなく UUIDv7 の ID に埋め込まれた採番時刻（ミリ秒）で判定する。
+     * 次ページは nextCursor を after に指定して取得する。
+     */
+    @GetMapping(value = API_PATH, params = {"createdFrom", "createdTo"})
+    public ResponseEntity<OrderPage> getOrdersCreatedBetween(@RequestParam Instant createdFrom,
+                                                             @RequestParam Instant createdTo,
+                                                             @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int limit,
+                                                             @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE || !createdFrom.isBefore(createdTo)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderRepository.findCreatedBetween(createdFrom, createdTo, after, limit));
+    }
+
+    /**
+     * 顧客名検索（部分一致）
+     */
+    @GetMapping(API_PATH + "/search")
+    public ResponseEntity<List<Order>> searchOrders(@RequestParam String customerName,
+                                                    @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderRepository.findByCustomerNameContaining(customerName, limit));
+    }
+
+    /**
+     * ステータス別の件数・合計金額
+     * <p>
+     * 集計済みカウンターから返すため、注文件数に関わらずステータス数分のコストで応答する。
+     */
+    @GetMapping(API_PATH + "/stats")
+    public List<OrderStatusSummary> getOrderStats() {
+        return orderStatistics.summarizeByStatus();
+    }
+
+    /**
+     * 注文エクスポート（NDJSON）
+     * <p>
+     * 1 行読み込むごとにレスポンスへ書き出すため、件数に関わらずヒープ使用量は一定となる。
+     */
+    @GetMapping(value = API_PATH + "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        // 行区切りは自前で書くため、ルート値の区切り文字（既定は空白）は出力しない
+        ObjectWriter writer = objectMapper.writerFor(Order.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                orderRepository.exportAll(order -> {
+                    try {
+                        writer.writeValue(generator, order);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 注文の変更フィード（Server-Sent Events）
+     * <p>
+     * 注文作成は order-created、ステータス変更は status-changed イベントとして JSON で配信する。
+     * 再接続時は Last-Event-ID 以降の通知から再開し、保持範囲外の場合は reset イベントを送る
+     * （受信側は GET /orders で取得し直す）。
+     */
+    @GetMapping(value = API_PATH + "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        OrderChangeFeed.Subscription subscription = orderChangeFeed.subscribe(lastEventId,
+                new OrderChangeFeed.Subscriber() {
+                    @Override
+                    public void onChange(OrderChange change) throws IOException {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(change.id()))
+                                .name(eventName(change.type()))
+                                .data(change.payload(), MediaType.APPLICATION_JSON));
+                    }
+
+                    @Override
+                    public void onMissed() throws IOException {
+                        emitter.send(SseEmitter.event().name("reset").data(""));
+                    }
+
+                    @Override
+                    public void onHeartbeat() throws IOException {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                });
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
     }
 
     /**
      * 注文詳細取得
      */
     @GetMapping(API_PATH + "/{orderNumber}")
-    public ResponseEntity<Order> getOrderByOrderNumber(@PathVariable String orderNumber) {
+    public ResponseEntity<Order> getOrderByOrderNumber(@PathVariable String orderNumber,
+                                                       ServletWebRequest webRequest) {
+        Optional<MediaType> mediaType = representation(webRequest, Order.class);
+        if (mediaType.isPresent() && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> version = orderChangeVersions.of(orderNumber);
+            if (version.isPresent() && webRequest.checkNotModified(eTag(version.get(), mediaType.get()))) {
+                return null;
+            }
+        }
         return orderRepository.findByOrderNumber(orderNumber)
-                .map(ResponseEntity::ok)
+                .map(order -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    mediaType.ifPresent(type -> response.eTag(eTag(OrderChangeVersions.fromOrder(order), type)));
+                    return response.body(order);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * 注文作成
+     * <p>
+     * 非同期受付（app.order.ingestion.enabled=true）の場合は保存を待たずに 202 Accepted を返す。
+     * 永続化状況は Location の GET /orders/{orderNumber}/ingestion で確認する。
      */
     @PostMapping(API_PATH)
     public ResponseEntity<Order> createOrder(@RequestBody CreateOrderRequest request) {
-        String orderNumber = generateOrderNumber();
+        String orderNumber = orderNumberGenerator.generate();
 
         Order order = new Order(
                 orderNumber,
                 request.getCustomerName(),
-                request.getTotalAmount().doubleValue(),
+                request.getTotalAmount(),
                 OrderStatus.PENDING
         );
 
+        OrderIngestor ingestor = orderIngestor.getIfAvailable();
+        if (ingestor != null) {
+            if (!ingestor.offer(order)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build();
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create(API_PATH + "/" + orderNumber + "/ingestion"))
+                    .body(order);
+        }
+
         Order savedOrder = orderRepository.save(order);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedOrder);
     }
 
     /**
-     * 注文番号生成
+     * 非同期受付した注文の永続化状況
+     */
+    @GetMapping(API_PATH + "/{orderNumber}/ingestion")
+    public ResponseEntity<IngestionStatusResponse> getIngestionStatus(@PathVariable String orderNumber) {
+        OrderIngestor ingestor = orderIngestor.getIfAvailable();
+        if (ingestor == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ingestor.status(orderNumber)
+                .map(status -> ResponseEntity.ok(new IngestionStatusResponse(orderNumber, status)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 注文一括作成
+     */
+    @PostMapping(API_PATH + "/batch")
+    public ResponseEntity<List<Order>> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (CreateOrderRequest request : requests) {
+            orders.add(new Order(
+                    orderNumberGenerator.generate(),
+                    request.getCustomerName(),
+                    request.getTotalAmount(),
+                    OrderStatus.PENDING
+            ));
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedOrders);
+    }
+
+    /**
+     * 注文ステータス変更
+     * <p>
+     * 現在のステータスから遷移できない場合、または version を指定してそれが現在のバージョンと異なる場合は
+     * 409 Conflict で現在の注文を返す。
+     */
+    @PutMapping(API_PATH + "/{orderNumber}/status")
+    public ResponseEntity<Order> transitionStatus(@PathVariable String orderNumber,
+                                                  @RequestBody StatusTransitionRequest request) {
+        if (request.getStatus() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (orderRepository.transitionStatus(orderNumber, request.getStatus(), request.getVersion())) {
+            return ResponseEntity.noContent().build();
+        }
+        // 失敗時のみ現在の状態を読み、存在しないのか競合なのかを判別する
+        return orderRepository.findByOrderNumber(orderNumber)
+                .map(current -> ResponseEntity.status(HttpStatus.CONFLICT).body(current))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 注文ステータス一括変更
+     * <p>
+     * createdBefore より前に作成された from の注文をすべて to へ変更する（例: 前日までの PENDING を CONFIRMED に）。
+     * from から to へ遷移できない場合は 400 を返す。
+     */
+    @PostMapping(API_PATH + "/status-transitions")
+    public ResponseEntity<BulkStatusTransitionResponse> transitionStatuses(
+            @RequestBody BulkStatusTransitionRequest request) {
+        if (request.getFrom() == null || request.getTo() == null || request.getCreatedBefore() == null
+                || !request.getFrom().canTransitionTo(request.getTo())) {
+            return ResponseEntity.badRequest().build();
+        }
+        int updated = orderRepository.transitionStatus(request.getFrom(), request.getTo(), request.getCreatedBefore());
+        return ResponseEntity.ok(new BulkStatusTransitionResponse(updated));
+    }
+
+    /**
+     * 変更バージョンと応答の形式から弱い ETag を作る（圧縮の有無に関わらず同じ値として比較できるようにする）
+     * <p>
+     * JSON / CBOR / Smile で本文が異なるため、形式ごとに別の ETag とする。
+     */
+    private static String eTag(String version, MediaType mediaType) {
+        return "W/\"" + version + ":" + mediaType.getSubtype() + "\"";
+    }
+
+    /**
+     * Spring MVC が valueClass の本文に選ぶ応答形式を求め、Vary: Accept を付ける（304 にも付けるため本文より先に設定する）
+     *
+     * @return 書き出せる形式がない場合は空（ETag を付けず、Spring MVC に 406 Not Acceptable を返させる）
+     */
+    private Optional<MediaType> representation(ServletWebRequest webRequest, Class<?> valueClass) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return responseMediaTypes.select(webRequest, valueClass);
+    }
+
+    /**
+     * 変更フィードの SSE イベント名
+     */
+    private static String eventName(OrderChange.Type type) {
+        return switch (type) {
+            case ORDER_CREATED -> "order-created";
+            case STATUS_CHANGED -> "status-changed";
+        };
+    }
+
+    /**
+     * 不正なページングカーソル
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * DB 接続を取得できない（JDBC 同時実行数の許可待ちタイムアウト等）
      */
-    private String generateOrderNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
-        return "ORD-" + timestamp;
+    @ExceptionHandler({DataAccessResourceFailureException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<Void> handleConnectionUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
     }
 }
@@ -0,0 +1,65 @@
+package com.example.app.controller.order;
+
+import com.example.app.controller.common.MoneyJsonComponent;
+import com.example.app.domain.order.Order;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Order の JSON 変換
+ * <p>
+ * レコードのアクセサーをリフレクションで呼ぶ既定のシリアライザーの代わりに、フィールドを直接書き出す。
+ * フィールド名はエンコード済みの SerializedString を使い回す。出力は既定のシリアライザーと同じ。
+ */
+@JsonComponent
+public class OrderJsonComponent {
+
+    private static final SerializedString ORDER_NUMBER = new SerializedString("orderNumber");
+    private static final SerializedString CUSTOMER_NAME = new SerializedString("customerName");
+    private static final SerializedString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    /**
+     * Spring の ObjectMapper を使わない場合（ベンチマーク等）に登録するモジュール
+     */
+    public static SimpleModule module() {
+        return new SimpleModule("OrderModule")
+                .addSerializer(Order.class, new Serializer());
+    }
+
+    public static class Serializer extends JsonSerializer<Order> {
+
+        private static final MoneyJsonComponent.Serializer MONEY = new MoneyJsonComponent.Serializer();
+
+        @Override
+        public void serialize(Order value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(ORDER_NUMBER);
+            gen.writeString(value.orderNumber());
+            gen.writeFieldName(CUSTOMER_NAME);
+            gen.writeString(value.customerName());
+            gen.writeFieldName(TOTAL_AMOUNT);
+            if (value.totalAmount() == null) {
+                gen.writeNull();
+            } else {
+                MONEY.serialize(value.totalAmount(), gen, serializers);
+            }
+            gen.writeFieldName(STATUS);
+            if (value.status() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value.status().name());
+            }
+            gen.writeFieldName(VERSION);
+            gen.writeNumber(value.version());
+            gen.writeEndObject();
+        }
+    }
+}
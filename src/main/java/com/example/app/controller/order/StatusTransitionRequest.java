@@ -0,0 +1,22 @@
+package com.example.app.controller.order;
+
+import com.example.app.domain.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注文ステータス変更リクエスト
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionRequest {
+    private OrderStatus status;
+    /**
+     * 取得時のバージョン（指定した場合は一致するときだけ変更する）
+     */
+    private Long version;
+}
@@ -0,0 +1,149 @@
+package com.example.app.domain.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 金額（小数点以下 2 桁の固定小数点）
+ * <p>
+ * 最小通貨単位（1/100）の long で保持する。DB の DECIMAL(10,2) や JSON の数値とは
+ * BigDecimal / double を経由せず文字列で直接変換するため、丸め誤差も中間オブジェクトも発生しない。
+ *
+ * @param minorUnits 最小通貨単位での金額（例: 1234.50 は 123450）
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    /**
+     * 小数点以下の桁数
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_MAJOR = 100;
+
+    /**
+     * 最小通貨単位から作成
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * BigDecimal から作成（小数点以下 2 桁を超える端数がある場合は ArithmeticException）
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    /**
+     * 10 進表記（"1234.5"、"-0.05"、"100" 等）から作成
+     *
+     * @throws NumberFormatException 数値でない、または小数点以下 2 桁を超える端数がある場合
+     */
+    public static Money parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * 10 進表記の部分文字列から作成
+     *
+     * @throws NumberFormatException 数値でない、または小数点以下 2 桁を超える端数がある場合
+     */
+    public static Money parse(CharSequence text, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        long major = 0;
+        int integerDigits = 0;
+        while (i < end && isDigit(text.charAt(i))) {
+            major = Math.addExact(Math.multiplyExact(major, 10), text.charAt(i) - '0');
+            integerDigits++;
+            i++;
+        }
+        long minor = 0;
+        int fractionDigits = 0;
+        boolean truncated = false;
+        if (i < end && text.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(text.charAt(i))) {
+                int digit = text.charAt(i) - '0';
+                if (fractionDigits < SCALE) {
+                    minor = minor * 10 + digit;
+                } else if (digit != 0) {
+                    truncated = true;
+                }
+                fractionDigits++;
+                i++;
+            }
+        }
+        if (integerDigits + fractionDigits > 0 && i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            // 指数表記はまれなので BigDecimal で解釈する
+            return parseExponent(text.subSequence(offset, end).toString());
+        }
+        if (i != end || integerDigits + fractionDigits == 0) {
+            throw new NumberFormatException("Not a money amount: " + text.subSequence(offset, end));
+        }
+        if (truncated) {
+            throw new NumberFormatException("More than " + SCALE + " fraction digits: " + text.subSequence(offset, end));
+        }
+        for (int scaled = Math.min(fractionDigits, SCALE); scaled < SCALE; scaled++) {
+            minor *= 10;
+        }
+        long minorUnits = Math.addExact(Math.multiplyExact(major, MINOR_PER_MAJOR), minor);
+        return ofMinor(negative ? -minorUnits : minorUnits);
+    }
+
+    /**
+     * 加算
+     */
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * BigDecimal（スケール 2）へ変換
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /**
+     * 小数点以下 2 桁の 10 進表記（例: "1234.50"）
+     */
+    @Override
+    public String toString() {
+        long abs = Math.abs(minorUnits);
+        long fraction = abs % MINOR_PER_MAJOR;
+        StringBuilder sb = new StringBuilder(24);
+        if (minorUnits < 0) {
+            sb.append('-');
+        }
+        sb.append(abs / MINOR_PER_MAJOR).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+
+    private static Money parseExponent(String text) {
+        try {
+            return of(new BigDecimal(text));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Not a money amount: " + text);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
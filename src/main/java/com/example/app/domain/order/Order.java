@@ -1,7 +1,18 @@
 package com.example.app.domain.order;
 
+import com.example.app.domain.common.Money;
+
 /**
  * 注文エンティティ
+ *
+ * @param version 楽観的ロック用のバージョン（ステータス変更ごとに 1 増える）
  */
-public record Order(String orderNumber, String customerName, Double totalAmount, OrderStatus status) {
-}
\ No newline at end of file
+public record Order(String orderNumber, String customerName, Money totalAmount, OrderStatus status, long version) {
+
+    /**
+     * 新規作成用（バージョン 0）
+     */
+    public Order(String orderNumber, String customerName, Money totalAmount, OrderStatus status) {
+        this(orderNumber, customerName, totalAmount, status, 0);
+    }
+}
@@ -1,12 +1,43 @@
 package com.example.app.domain.order;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 注文ステータス
+ * <p>
+ * 遷移できるのは PENDING → CONFIRMED → SHIPPED → COMPLETED の順方向と、
+ * PENDING / CONFIRMED からの CANCELLED のみ。
  */
 public enum OrderStatus {
     PENDING,    // 保留中
     CONFIRMED,  // 確定
     SHIPPED,    // 発送済み
     COMPLETED,  // 完了
-    CANCELLED   // キャンセル
+    CANCELLED;  // キャンセル
+
+    /**
+     * 指定したステータスへ遷移できるか
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> target == CONFIRMED || target == CANCELLED;
+            case CONFIRMED -> target == SHIPPED || target == CANCELLED;
+            case SHIPPED -> target == COMPLETED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
+
+    /**
+     * このステータスへ遷移できる遷移元ステータス（PENDING は空）
+     */
+    public Set<OrderStatus> sources() {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.app.domain.order;
+
+import com.example.app.domain.common.Money;
+
+/**
+ * 注文ステータス変更イベント
+ *
+ * @param orderNumber 変更された注文の注文番号（一括変更の場合は null）
+ * @param from        変更前のステータス
+ * @param status      変更後のステータス
+ * @param count       変更された注文の件数
+ * @param totalAmount 変更された注文の合計金額
+ */
+public record OrderStatusChangedEvent(String orderNumber, OrderStatus from, OrderStatus status, int count,
+                                      Money totalAmount) {
+}
@@ -0,0 +1,20 @@
+package com.example.app.domain.order;
+
+import com.example.app.domain.common.Money;
+
+import java.util.List;
+
+/**
+ * 注文アーカイブイベント
+ *
+ * @param count  アーカイブテーブルへ移動した件数
+ * @param totals ステータス別の移動件数と合計金額
+ */
+public record OrdersArchivedEvent(int count, List<StatusTotal> totals) {
+
+    /**
+     * 1 ステータス分の移動件数と合計金額
+     */
+    public record StatusTotal(OrderStatus status, int count, Money totalAmount) {
+    }
+}
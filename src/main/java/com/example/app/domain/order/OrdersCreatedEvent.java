@@ -0,0 +1,11 @@
+package com.example.app.domain.order;
+
+import java.util.List;
+
+/**
+ * 注文作成イベント
+ *
+ * @param orders 作成された注文
+ */
+public record OrdersCreatedEvent(List<Order> orders) {
+}
@@ -0,0 +1,7 @@
+package com.example.app.domain.order;
+
+/**
+ * 注文全件削除イベント
+ */
+public record OrdersDeletedEvent() {
+}
@@ -0,0 +1,71 @@
+package com.example.app.infra.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 同時実行数を AimdConcurrencyLimiter で制限するフィルター
+ * <p>
+ * GET / HEAD / OPTIONS は reads、それ以外は writes の上限を使う（遅い書き込みで読み取りまで止めない）。
+ * 上限に達している場合は待たせずに 503 Service Unavailable と Retry-After を返す。
+ * 5xx の応答と例外は過負荷として上限を減らす。
+ * 非同期処理（SSE、ストリーミング応答）はハンドラーが戻った時点で実行枠を返却する。
+ * 一括処理など、処理時間が通常のリクエストと桁違いのパスは excludedPaths で対象外にする
+ * （長い処理時間で上限が下がり、通常のリクエストまで拒否しないため）。
+ */
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AimdConcurrencyLimiter reads;
+    private final AimdConcurrencyLimiter writes;
+    private final Set<String> excludedPaths;
+
+    /**
+     * @param excludedPaths 制限しないパス（コンテキストパスを除いた完全一致）
+     */
+    public AdaptiveConcurrencyFilter(AimdConcurrencyLimiter reads, AimdConcurrencyLimiter writes,
+                                     Set<String> excludedPaths) {
+        this.reads = reads;
+        this.writes = writes;
+        this.excludedPaths = Set.copyOf(excludedPaths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AimdConcurrencyLimiter limiter = isWrite(request) ? writes : reads;
+        AimdConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+        boolean overloaded = true;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            permit.release(overloaded);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+}
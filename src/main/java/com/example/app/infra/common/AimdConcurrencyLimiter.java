@@ -0,0 +1,132 @@
+package com.example.app.infra.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * レイテンシに応じて同時実行数の上限を増減する流入制御（AIMD）
+ * <p>
+ * 処理時間が latencyThreshold 以内に終わり、かつ上限の半分以上を使っている間は上限を 1 ずつ増やす。
+ * latencyThreshold を超えたか過負荷で失敗した場合は上限を backoffRatio 倍に減らす。
+ * 同時に遅延した複数のリクエストで連続して減らさないよう、直前の減少より後に開始したリクエストだけが上限を減らす。
+ * 上限に達している場合は待たずに拒否する。
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastDecreaseNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param initialLimit     起動時の上限
+     * @param minLimit         上限の下限
+     * @param maxLimit         上限の上限
+     * @param latencyThreshold これを超えた処理時間を過負荷とみなす
+     * @param backoffRatio     過負荷時に上限へ掛ける比率（0 より大きく 1 未満）
+     * @param nanoTime         経過時間の計測に使う時計（通常は System::nanoTime）
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                  double backoffRatio, LongSupplier nanoTime) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "limits must satisfy 1 <= min <= initial <= max: " + minLimit + ", " + initialLimit + ", "
+                            + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoTime = nanoTime;
+        this.limit = new AtomicInteger(initialLimit);
+        this.lastDecreaseNanos = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * 実行枠を取得
+     *
+     * @return 取得した実行枠（上限に達している場合は null）
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(nanoTime.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    /**
+     * 現在の上限
+     */
+    public int limit() {
+        return limit.get();
+    }
+
+    /**
+     * 実行中の件数
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 起動からの拒否件数
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private void release(Permit permit, boolean overloaded) {
+        inFlight.decrementAndGet();
+        long now = nanoTime.getAsLong();
+        if (overloaded || now - permit.startNanos > latencyThresholdNanos) {
+            long lastDecrease = lastDecreaseNanos.get();
+            if (permit.startNanos - lastDecrease >= 0 && lastDecreaseNanos.compareAndSet(lastDecrease, now)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            }
+        } else if (permit.inFlight * 2 >= limit.get()) {
+            // 上限を使い切っていない間は増やさない（負荷が低いだけで上限が際限なく伸びるのを防ぐ）
+            limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+        }
+    }
+
+    /**
+     * 取得した実行枠
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlight;
+
+        private Permit(long startNanos, int inFlight) {
+            this.startNanos = startNanos;
+            this.inFlight = inFlight;
+        }
+
+        /**
+         * 実行枠を返却し、処理時間と結果から上限を調整する
+         *
+         * @param overloaded 過負荷による失敗（タイムアウトや 5xx など）の場合は true
+         */
+        public void release(boolean overloaded) {
+            AimdConcurrencyLimiter.this.release(this, overloaded);
+        }
+    }
+}
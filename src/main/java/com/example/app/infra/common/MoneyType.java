@@ -0,0 +1,77 @@
+package com.example.app.infra.common;
+
+import com.example.app.domain.common.Money;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * Money と DECIMAL(10,2) 列の変換
+ * 読み込みは列の 10 進文字列を直接解析し、BigDecimal を生成しない
+ */
+public class MoneyType implements UserType<Money> {
+
+    @Override
+    public int getSqlType() {
+        return Types.DECIMAL;
+    }
+
+    @Override
+    public Class<Money> returnedClass() {
+        return Money.class;
+    }
+
+    @Override
+    public boolean equals(Money x, Money y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Money x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Money nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        String value = rs.getString(position);
+        return value != null ? Money.parse(value) : null;
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Money value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.DECIMAL);
+        } else {
+            st.setBigDecimal(index, value.toBigDecimal());
+        }
+    }
+
+    @Override
+    public Money deepCopy(Money value) {
+        // 不変のためコピー不要
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(Money value) {
+        return value != null ? value.minorUnits() : null;
+    }
+
+    @Override
+    public Money assemble(Serializable cached, Object owner) {
+        return cached != null ? Money.ofMinor((Long) cached) : null;
+    }
+}
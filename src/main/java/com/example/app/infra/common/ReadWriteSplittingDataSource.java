@@ -0,0 +1,124 @@
+package com.example.app.infra.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 読み取り専用トランザクションをレプリカへ、それ以外をプライマリへ振り分ける DataSource
+ * <p>
+ * 物理接続は最初の SQL 実行まで取得しない（LazyConnectionDataSourceProxy）。その時点で
+ * {@code @Transactional(readOnly = true)} により接続が読み取り専用になっていればレプリカを使う。
+ * {@link ReadYourWritesContext} でプライマリへ固定されている場合は読み取り専用でもプライマリを使う。
+ */
+public class ReadWriteSplittingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    /**
+     * レプリカの選び方
+     */
+    public enum LoadBalancing {
+        /**
+         * 順番に使う
+         */
+        ROUND_ROBIN,
+        /**
+         * 使用中と接続待ちの合計が最も少ないレプリカを使う（HikariCP のプールのみ判定可能）
+         */
+        LEAST_BUSY
+    }
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReadWriteSplittingDataSource(DataSource primary, List<DataSource> replicas, LoadBalancing loadBalancing) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, this.replicas, loadBalancing));
+        afterPropertiesSet();
+    }
+
+    /**
+     * プライマリとレプリカの接続プールを閉じる
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            closeIfPossible(replica);
+        }
+        closeIfPossible(primary);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 読み取り専用接続の取得先を選ぶ DataSource
+     */
+    static class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+        static final String PRIMARY = "primary";
+
+        private final List<DataSource> replicas;
+        private final LoadBalancing loadBalancing;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, LoadBalancing loadBalancing) {
+            this.replicas = replicas;
+            this.loadBalancing = loadBalancing;
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                targets.put(i, replicas.get(i));
+            }
+            setTargetDataSources(targets);
+            setLenientFallback(false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (ReadYourWritesContext.isPinnedToPrimary()) {
+                return PRIMARY;
+            }
+            // 同じ負荷のレプリカが複数ある場合に偏らないよう、走査の開始位置も順番に回す
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+                return start;
+            }
+            int selected = start;
+            int minLoad = Integer.MAX_VALUE;
+            for (int offset = 0; offset < replicas.size(); offset++) {
+                int index = (start + offset) % replicas.size();
+                int load = load(replicas.get(index));
+                if (load < minLoad) {
+                    minLoad = load;
+                    selected = index;
+                }
+            }
+            return selected;
+        }
+
+        private static int load(DataSource replica) {
+            if (replica instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                // プール未初期化の場合は未使用とみなす
+                return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.app.infra.common;
+
+/**
+ * 現在のスレッドの読み取りをプライマリへ固定するかどうか
+ * <p>
+ * 書き込み直後のリクエストでレプリカの反映遅れにより自分の書き込みが見えなくなるのを防ぐ。
+ * 固定中は読み取り専用トランザクションもプライマリを使う。
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * 読み取りをプライマリへ固定する
+     */
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    /**
+     * 固定を解除する
+     */
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    /**
+     * プライマリへ固定されているか
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.app.infra.common;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 同時に届いた単一キーの取得を 1 回の一括取得にまとめる
+ * <p>
+ * 最初の呼び出し元（リーダー）が window だけ待つ間に届いた呼び出しを同じバッチに入れ、
+ * リーダーのスレッドで loader を 1 回呼び出して各呼び出し元に結果を渡す。
+ * 同じバッチ内の同じキーは 1 つにまとめる。バッチが maxBatchSize 件に達した場合は待たずに取得する。
+ * <p>
+ * まとめるのは取得開始前のバッチだけで、実行中の取得には相乗りしない
+ * （呼び出し前にコミットされた書き込みを、それより前に始まった取得の結果で隠さないため）。
+ * 待機中はスレッドをブロックするため、仮想スレッドからの呼び出しを想定する。
+ *
+ * @param <K> キー
+ * @param <V> 値
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    /**
+     * synchronized は仮想スレッドをキャリアに固定するため ReentrantLock を使う
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 取得開始前のバッチ（lock で保護する）
+     */
+    private Map<K, CompletableFuture<V>> pending;
+
+    /**
+     * @param loader       キーの集合から、見つかったキーと値の Map を返す
+     * @param window       リーダーが後続の呼び出しを待つ時間
+     * @param maxBatchSize 1 回の取得にまとめる最大キー数
+     */
+    public RequestCoalescer(Function<Set<K>, Map<K, V>> loader, Duration window, int maxBatchSize) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative: " + window);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.loader = loader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * キーの値を取得
+     *
+     * @return 値（見つからない場合は null）
+     */
+    public V get(K key) {
+        Map<K, CompletableFuture<V>> batch;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        boolean full = false;
+        lock.lock();
+        try {
+            if (pending == null) {
+                pending = new LinkedHashMap<>();
+                leader = true;
+            }
+            batch = pending;
+            future = batch.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.size() >= maxBatchSize) {
+                pending = null;
+                full = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) {
+            load(batch);
+        } else if (leader) {
+            awaitWindow(future);
+            if (detach(batch)) {
+                load(batch);
+            }
+        }
+        return join(future);
+    }
+
+    /**
+     * window が経過するか、他の呼び出し元がバッチを満杯にして取得し終えるまで待つ
+     */
+    private void awaitWindow(CompletableFuture<V> future) {
+        try {
+            future.get(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 待機の終了だけが目的のため、結果は join で受け取る
+        } catch (InterruptedException e) {
+            // 後続の呼び出し元を待たせないよう、割り込まれてもバッチは取得する
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * バッチがまだ取得開始前であれば取り出す
+     *
+     * @return 取り出した場合は true（満杯で他の呼び出し元が取得済みの場合は false）
+     */
+    private boolean detach(Map<K, CompletableFuture<V>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return false;
+            }
+            pending = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        Map<K, V> values;
+        try {
+            values = loader.apply(Collections.unmodifiableSet(batch.keySet()));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(f -> f.completeExceptionally(e));
+            return;
+        }
+        batch.forEach((key, f) -> f.complete(values.get(key)));
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 取得したスレッドの例外をそのまま呼び出し元へ伝える
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
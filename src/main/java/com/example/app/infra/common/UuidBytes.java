@@ -0,0 +1,43 @@
+package com.example.app.infra.common;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID と BINARY(16) 表現の相互変換
+ * <p>
+ * ビッグエンディアンの 16 バイトで表現するため、バイト列の符号なし比較が UUIDComparator の順序と一致する。
+ */
+public final class UuidBytes {
+
+    /**
+     * キーセット走査の起点（BINARY(16) の符号なし比較で最小の ID）
+     */
+    public static final UUID MIN_VALUE = new UUID(0L, 0L);
+
+    private UuidBytes() {
+    }
+
+    /**
+     * UUID を 16 バイトに変換
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 16 バイトを UUID に変換
+     *
+     * @throws IllegalArgumentException 16 バイトでない場合
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID must be 16 bytes: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.app.infra.common;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 ファクトリー
+ * <p>
+ * RFC 9562 の「固定長カウンター」方式で、48 ビットの Unix ミリ秒と 12 ビットの rand_a カウンターを
+ * 1 つの AtomicLong で CAS 更新する。ロックを使わずにスレッド間で単調増加を保証し、
+ * 1 ミリ秒あたり 4096 件を超えた場合やクロックが巻き戻った場合は論理時刻を先に進める。
+ * rand_b（62 ビット）は ThreadLocalRandom から取得するため、UUID 以外のオブジェクトを生成しない。
+ * <p>
+ * Hibernate（{@link UuidV7Generator}）とアプリケーションコードで {@link #shared()} を共有する。
+ */
+public final class UuidV7Factory {
+
+    private static final UuidV7Factory SHARED = new UuidV7Factory(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long MAX_MILLIS = (1L << 48) - 1;
+
+    /**
+     * UUIDv7 で表現できる最も遅い時刻
+     */
+    public static final Instant MAX_INSTANT = Instant.ofEpochMilli(MAX_MILLIS);
+
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    UuidV7Factory(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * プロセス全体で共有するインスタンス
+     */
+    public static UuidV7Factory shared() {
+        return SHARED;
+    }
+
+    /**
+     * 指定時刻以降に生成された UUIDv7 の最小値
+     * <p>
+     * ID の範囲条件（id &lt; lowerBound(t)）で「t より前に作成された行」を作成日時の索引なしで絞り込める。
+     * 比較は BINARY(16) と同じ符号なしの順序（UUIDComparator）で行うこと。
+     *
+     * @throws IllegalArgumentException UUIDv7 の 48 ビットのミリ秒で表現できない時刻の場合
+     */
+    public static UUID lowerBound(Instant instant) {
+        if (instant.isBefore(Instant.EPOCH) || instant.isAfter(MAX_INSTANT)) {
+            throw new IllegalArgumentException("Timestamp out of UUIDv7 range: " + instant);
+        }
+        return new UUID((instant.toEpochMilli() << 16) | VERSION, VARIANT);
+    }
+
+    /**
+     * UUIDv7 を生成
+     */
+    public UUID generate() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long next = state.accumulateAndGet(now, (prev, current) -> Math.max(prev + 1, current));
+
+        long millis = next >>> COUNTER_BITS;
+        long counter = next & COUNTER_MASK;
+        long msb = (millis << 16) | VERSION | counter;
+        long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+        return new UUID(msb, lsb);
+    }
+}
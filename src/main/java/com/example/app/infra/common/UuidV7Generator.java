@@ -1,6 +1,5 @@
 package com.example.app.infra.common;
 
-import com.fasterxml.uuid.Generators;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.uuid.UuidValueGenerator;
 
@@ -9,11 +8,12 @@ import java.util.UUID;
 /**
  * UUIDv7 ジェネレーター
  * Hibernate の UUID 生成をカスタマイズして UUIDv7 を使用する
+ * Hibernate がエンティティごとにインスタンス化するため、共有の {@link UuidV7Factory} に委譲する
  */
 public class UuidV7Generator implements UuidValueGenerator {
 
     @Override
     public UUID generateUuid(SharedSessionContractImplementor session) {
-        return Generators.timeBasedEpochGenerator().generate();
+        return UuidV7Factory.shared().generate();
     }
 }
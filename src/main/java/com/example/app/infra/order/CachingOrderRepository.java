@@ -0,0 +1,147 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.OrderPage;
+import com.example.app.usecase.order.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 注文番号検索をキャッシュする注文リポジトリ
+ * <p>
+ * findByOrderNumber / findByOrderNumbers の結果をリードスルーでキャッシュし、それ以外は委譲先へそのまま渡す。
+ * 書き込み時は該当する注文番号のエントリを無効化する（ロールバック時に古い値を残さないよう put はしない）。
+ * 存在しない注文はキャッシュしない。
+ */
+@RequiredArgsConstructor
+public class CachingOrderRepository implements OrderRepository {
+
+    private final OrderRepository delegate;
+    private final Cache<String, Order> cache;
+
+    @Override
+    public List<Order> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public OrderPage findPage(String after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public OrderPage findCreatedBetween(Instant from, Instant to, String after, int limit) {
+        return delegate.findCreatedBetween(from, to, after, limit);
+    }
+
+    @Override
+    public void exportAll(Consumer<Order> consumer) {
+        delegate.exportAll(consumer);
+    }
+
+    @Override
+    public Optional<Order> findByOrderNumber(String orderNumber) {
+        return Optional.ofNullable(cache.get(orderNumber, key -> delegate.findByOrderNumber(key).orElse(null)));
+    }
+
+    @Override
+    public List<Order> findByOrderNumbers(Collection<String> orderNumbers) {
+        // キャッシュにない注文番号だけを委譲先でまとめて検索する
+        Map<String, Order> found = cache.getAll(orderNumbers, missing ->
+                delegate.findByOrderNumbers(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(Order::orderNumber, Function.identity())));
+        return new LinkedHashSet<>(orderNumbers).stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Order> findByCustomerNameContaining(String customerName) {
+        return delegate.findByCustomerNameContaining(customerName);
+    }
+
+    @Override
+    public List<Order> findByCustomerNameContaining(String customerName, int limit) {
+        return delegate.findByCustomerNameContaining(customerName, limit);
+    }
+
+    @Override
+    public Order save(Order order) {
+        try {
+            return delegate.save(order);
+        } finally {
+            cache.invalidate(order.orderNumber());
+        }
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        try {
+            return delegate.saveAll(orders);
+        } finally {
+            cache.invalidateAll(orders.stream().map(Order::orderNumber).toList());
+        }
+    }
+
+    @Override
+    public boolean transitionStatus(String orderNumber, OrderStatus target, Long expectedVersion) {
+        try {
+            return delegate.transitionStatus(orderNumber, target, expectedVersion);
+        } finally {
+            cache.invalidate(orderNumber);
+        }
+    }
+
+    @Override
+    public int transitionStatus(OrderStatus source, OrderStatus target, LocalDateTime createdBefore) {
+        try {
+            return delegate.transitionStatus(source, target, createdBefore);
+        } finally {
+            // 変更された注文番号は分からないため全件無効化する
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            delegate.deleteAll();
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * ヒット・ミス・追い出し件数などの統計
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 現在のエントリ数（概算）
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
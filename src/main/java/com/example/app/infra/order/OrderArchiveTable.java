@@ -0,0 +1,63 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.common.MoneyType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * アーカイブ済み注文エンティティ
+ * <p>
+ * orders と同じ列に archived_at を加えたもの。行の移動は {@link OrderPurger} の INSERT ... SELECT で行う。
+ */
+@Entity
+@Table(name = "orders_archive")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderArchiveTable {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Column(name = "customer_name", nullable = false, length = 100)
+    private String customerName;
+
+    @Type(MoneyType.class)
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private Money totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,98 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrdersArchivedEvent;
+import com.example.app.infra.common.UuidBytes;
+import com.example.app.infra.common.UuidV7Factory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 完了済み注文のアーカイブ
+ * <p>
+ * 保持期間より前に作成された終了状態（COMPLETED / CANCELLED 等）の注文を、ID 範囲のチャンク単位で
+ * orders_archive へ移動し、orders を小さく保つ。チャンクの間は batchPause だけ待ち、
+ * 稼働中のリクエストと接続・ロック・I/O を奪い合わないようにする。
+ * 全インスタンスで定期実行されるが、チャンクの行は OrderPurger が SKIP LOCKED で取り合うため重複して移動しない。
+ */
+@Slf4j
+public class OrderArchiver {
+
+    private final OrderPurger orderPurger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Set<OrderStatus> statuses;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    public OrderArchiver(OrderPurger orderPurger, ApplicationEventPublisher eventPublisher, Clock clock,
+                         Set<OrderStatus> statuses, Duration retention, int batchSize, Duration batchPause) {
+        this.orderPurger = orderPurger;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.statuses = statuses;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+    }
+
+    /**
+     * 定期実行
+     */
+    @Scheduled(initialDelayString = "${app.order.archive.interval:1h}",
+            fixedDelayString = "${app.order.archive.interval:1h}")
+    public void archiveExpired() {
+        archive(clock.instant().minus(retention));
+    }
+
+    /**
+     * cutoff より前に作成された対象ステータスの注文をアーカイブ
+     *
+     * @return アーカイブした件数
+     */
+    public long archive(Instant cutoff) {
+        if (statuses.isEmpty()) {
+            return 0;
+        }
+        UUID before = UuidV7Factory.lowerBound(cutoff);
+        UUID after = UuidBytes.MIN_VALUE;
+        long archived = 0;
+        while (after != null) {
+            OrderPurger.Chunk chunk = orderPurger.archiveChunk(statuses, after, before, batchSize);
+            if (chunk.archived() > 0) {
+                eventPublisher.publishEvent(new OrdersArchivedEvent(chunk.archived(), chunk.totals()));
+            }
+            archived += chunk.archived();
+            after = chunk.next();
+            if (after != null && !pause()) {
+                break;
+            }
+        }
+        log.info("Archived {} orders created before {}", archived, cutoff);
+        return archived;
+    }
+
+    /**
+     * @return 割り込まれた場合は false
+     */
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
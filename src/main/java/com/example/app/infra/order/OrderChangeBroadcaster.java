@@ -0,0 +1,249 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatusChangedEvent;
+import com.example.app.domain.order.OrdersCreatedEvent;
+import com.example.app.usecase.order.OrderChange;
+import com.example.app.usecase.order.OrderChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * リングバッファによる注文変更フィード
+ * <p>
+ * コミット済みの変更イベントを固定長のリングバッファに追記し、購読者ごとの読み取り位置から配信する。
+ * 配信は購読者ごとに 1 タスクずつ仮想スレッドで行うため、遅い購読者が書き込み側や他の購読者を待たせない。
+ * 購読者ごとのキューは持たず、リングバッファの容量を超えて遅れた購読者には取りこぼしを通知して最新位置へ進める。
+ * 待機中の購読者はスレッドも DB 問い合わせも使わない。
+ * <p>
+ * 通知 ID は起動時刻（ミリ秒）× 1000 から始めるため、再起動前の Last-Event-ID は保持範囲外として扱われる。
+ */
+@Slf4j
+@Component
+public class OrderChangeBroadcaster implements OrderChangeFeed, DisposableBean {
+
+    /**
+     * 1 回の読み取りで配信する最大件数
+     */
+    static final int MAX_BATCH = 256;
+
+    private final OrderChange[] ring;
+    private final Executor executor;
+    private final long firstId;
+    private final Set<Sub> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 次に割り当てる通知 ID（更新は this で同期する）
+     */
+    private volatile long nextId;
+
+    @Autowired
+    public OrderChangeBroadcaster(@Value("${app.order.feed.buffer-size:4096}") int bufferSize) {
+        this(bufferSize, Executors.newVirtualThreadPerTaskExecutor(), System.currentTimeMillis() * 1000);
+    }
+
+    OrderChangeBroadcaster(int bufferSize, Executor executor, long firstId) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("buffer-size must be positive: " + bufferSize);
+        }
+        this.ring = new OrderChange[bufferSize];
+        this.executor = executor;
+        this.firstId = firstId;
+        this.nextId = firstId;
+    }
+
+    @Override
+    public Subscription subscribe(Long lastEventId, Subscriber subscriber) {
+        Sub sub = new Sub(subscriber);
+        synchronized (this) {
+            if (lastEventId == null) {
+                sub.cursor = nextId;
+            } else if (lastEventId + 1 < oldestId() || lastEventId >= nextId) {
+                sub.cursor = nextId;
+                sub.missed = true;
+            } else {
+                sub.cursor = lastEventId + 1;
+            }
+            subscribers.add(sub);
+        }
+        if (sub.hasPending()) {
+            signal(sub);
+        }
+        return () -> cancel(sub);
+    }
+
+    /**
+     * 作成された注文を配信
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersCreated(OrdersCreatedEvent event) {
+        synchronized (this) {
+            for (Order order : event.orders()) {
+                append(OrderChange.Type.ORDER_CREATED, order);
+            }
+        }
+        signalAll();
+    }
+
+    /**
+     * ステータス変更を配信
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        synchronized (this) {
+            append(OrderChange.Type.STATUS_CHANGED, event);
+        }
+        signalAll();
+    }
+
+    /**
+     * 全購読者へ接続維持用の通知を送る（切断済みの接続を検出して購読を解除する）
+     */
+    @Scheduled(fixedDelayString = "${app.order.feed.heartbeat-interval:30s}")
+    public void heartbeat() {
+        for (Sub sub : subscribers) {
+            sub.heartbeatDue = true;
+            signal(sub);
+        }
+    }
+
+    /**
+     * 購読者数
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void append(OrderChange.Type type, Object payload) {
+        long id = nextId;
+        ring[index(id)] = new OrderChange(id, type, payload);
+        nextId = id + 1;
+    }
+
+    private long oldestId() {
+        return Math.max(firstId, nextId - ring.length);
+    }
+
+    private int index(long id) {
+        return (int) Math.floorMod(id, (long) ring.length);
+    }
+
+    /**
+     * 読み取り位置から最大 MAX_BATCH 件を取得し、読み取り位置を進める
+     */
+    private synchronized List<OrderChange> read(Sub sub) {
+        if (sub.cursor < oldestId()) {
+            // 未配信の通知が上書きされた
+            sub.cursor = nextId;
+            sub.missed = true;
+            return List.of();
+        }
+        int count = (int) Math.min(nextId - sub.cursor, MAX_BATCH);
+        List<OrderChange> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(ring[index(sub.cursor + i)]);
+        }
+        sub.cursor += count;
+        return batch;
+    }
+
+    private void signalAll() {
+        for (Sub sub : subscribers) {
+            signal(sub);
+        }
+    }
+
+    private void signal(Sub sub) {
+        if (!sub.cancelled && sub.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(sub));
+        }
+    }
+
+    private void drain(Sub sub) {
+        try {
+            while (!sub.cancelled) {
+                if (sub.missed) {
+                    sub.missed = false;
+                    sub.subscriber.onMissed();
+                }
+                List<OrderChange> batch = read(sub);
+                if (batch.isEmpty() && !sub.missed) {
+                    break;
+                }
+                for (OrderChange change : batch) {
+                    sub.subscriber.onChange(change);
+                }
+            }
+            if (sub.heartbeatDue && !sub.cancelled) {
+                sub.heartbeatDue = false;
+                sub.subscriber.onHeartbeat();
+            }
+        } catch (Exception e) {
+            log.debug("Order change subscriber failed, cancelling subscription", e);
+            cancel(sub);
+        } finally {
+            sub.scheduled.set(false);
+        }
+        // scheduled を戻す前に追記された通知を取りこぼさないよう再確認する
+        if (sub.hasPending()) {
+            signal(sub);
+        }
+    }
+
+    private void cancel(Sub sub) {
+        sub.cancelled = true;
+        subscribers.remove(sub);
+    }
+
+    /**
+     * 購読者ごとの配信状態
+     */
+    private final class Sub {
+
+        final Subscriber subscriber;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * 次に配信する通知 ID（read で同期して更新する）
+         */
+        long cursor;
+        volatile boolean missed;
+        volatile boolean heartbeatDue;
+        volatile boolean cancelled;
+
+        Sub(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        boolean hasPending() {
+            return !cancelled && (missed || heartbeatDue || cursorBehind());
+        }
+
+        private boolean cursorBehind() {
+            synchronized (OrderChangeBroadcaster.this) {
+                return cursor < nextId;
+            }
+        }
+    }
+}
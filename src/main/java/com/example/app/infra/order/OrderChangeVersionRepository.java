@@ -0,0 +1,71 @@
+package com.example.app.infra.order;
+
+import com.example.app.usecase.order.OrderChangeVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * DB の変更カウンターによる注文の変更バージョン
+ * <p>
+ * 全体のバージョンは order_change_version の 1 行で、orders を変更するトランザクションの最後に
+ * {@link #increment()} で同じトランザクション内から 1 増やす。コミットと同時に見えるため、
+ * 複数インスタンスでも同じ値になり、レプリカでは本文と同じだけ遅れる。
+ * カウンターの行ロックはコミットまで保持されるため、書き込みトランザクションはこの行で直列化される
+ * （一括保存はまとめて 1 回だけ増やす）。
+ * 注文ごとのバージョンは version 列（注文番号の索引で 1 行だけ読む）から求める。
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderChangeVersionRepository implements OrderChangeVersions {
+
+    private static final String INCREMENT = "UPDATE order_change_version SET version = version + 1 WHERE id = 1";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public String current() {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM order_change_version WHERE id = 1", Map.of(), Long.class);
+        return Long.toString(versions.isEmpty() ? 0 : versions.get(0));
+    }
+
+    @Override
+    public Optional<String> of(String orderNumber) {
+        return jdbcTemplate.queryForList("SELECT version FROM orders WHERE order_number = :orderNumber",
+                        Map.of("orderNumber", orderNumber), Long.class).stream()
+                .findFirst()
+                .map(version -> Long.toString(version));
+    }
+
+    @Override
+    public <T> Versioned<T> withVersion(Supplier<T> reader) {
+        // 同じ読み取り専用トランザクション（同じ接続）で読むため、バージョンより古い本文にはならない
+        return new Versioned<>(current(), reader.get());
+    }
+
+    /**
+     * 全体のバージョンを 1 増やす（orders を変更したトランザクションの最後に呼び出す）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment() {
+        if (jdbcTemplate.update(INCREMENT, Map.of()) > 0) {
+            return;
+        }
+        // 行がない場合（Hibernate がスキーマを作った DB など）は作る。同時に作られた場合はその行を増やす
+        try {
+            jdbcTemplate.update("INSERT INTO order_change_version (id, version) VALUES (1, 1)", Map.of());
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT, Map.of());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.app.infra.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注文の変更カウンター（1 行だけのテーブル）
+ * <p>
+ * 値の更新は {@link OrderChangeVersionRepository#increment()} の UPDATE で行う。
+ */
+@Entity
+@Table(name = "order_change_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangeVersionTable {
+
+    @Id
+    private int id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
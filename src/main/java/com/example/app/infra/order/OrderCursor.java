@@ -0,0 +1,42 @@
+package com.example.app.infra.order;
+
+import com.example.app.infra.common.UuidBytes;
+import com.example.app.usecase.order.InvalidCursorException;
+
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 注文一覧のページングカーソル
+ * <p>
+ * UUIDv7 の主キーを 16 バイトのビッグエンディアンで Base64URL エンコードした不透明な文字列。
+ * BINARY(16) の符号なしバイト順と一致するため、カーソル以降の範囲をクラスタ化インデックス上で走査できる。
+ */
+final class OrderCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private OrderCursor() {
+    }
+
+    /**
+     * 主キーをカーソル文字列へ変換
+     */
+    static String encode(UUID id) {
+        return ENCODER.encodeToString(UuidBytes.toBytes(id));
+    }
+
+    /**
+     * カーソル文字列を主キーへ変換
+     *
+     * @throws InvalidCursorException カーソルの形式が不正な場合
+     */
+    static UUID decode(String cursor) {
+        try {
+            return UuidBytes.fromBytes(DECODER.decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+}
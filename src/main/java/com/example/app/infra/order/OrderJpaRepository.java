@@ -1,12 +1,18 @@
 package com.example.app.infra.order;
 
 import com.example.app.domain.order.OrderStatus;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * 注文JPAリポジトリ
@@ -14,6 +20,42 @@ import java.util.UUID;
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderTable, UUID> {
 
+    /**
+     * ID 昇順で先頭から取得
+     */
+    List<OrderTable> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * 指定 ID より後ろを ID 昇順で取得
+     */
+    List<OrderTable> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    /**
+     * ID が [from, to) かつ after より後ろの注文を ID 昇順で取得（主キーの範囲走査）
+     */
+    @Query("SELECT o FROM OrderTable o WHERE o.id >= :from AND o.id < :to AND o.id > :after ORDER BY o.id")
+    List<OrderTable> findByIdRange(UUID from, UUID to, UUID after, Limit limit);
+
+    /**
+     * 顧客名インデックスのない注文を、after より後ろから ID 昇順で取得
+     */
+    @Query("SELECT o FROM OrderTable o WHERE o.id > :after "
+            + "AND NOT EXISTS (SELECT 1 FROM OrderNameGramTable g WHERE g.orderId = o.id) ORDER BY o.id")
+    List<OrderTable> findUnindexedAfter(UUID after, Limit limit);
+
+    /**
+     * 全件を ID 昇順でストリーム取得
+     * <p>
+     * 読み取り専用エンティティとしてフェッチサイズ単位で読み込む。
+     * MySQL で行単位に読み込むには接続 URL に useCursorFetch=true が必要。
+     * 呼び出し側はトランザクション内で消費し、ストリームを close すること。
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderTable> streamAllByOrderByIdAsc();
+
     /**
      * 注文番号で検索
      */
@@ -0,0 +1,52 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.order.Order;
+import com.example.app.infra.common.ReadYourWritesContext;
+import com.example.app.infra.common.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 注文番号による単一検索の合流
+ * <p>
+ * coalescing-window 以内に同時に届いた検索を、OrderReadRepository の 1 回の IN 検索にまとめる。
+ * 一括検索は呼び出し元のトランザクションの外で、独立した読み取り専用トランザクションとして実行する。
+ * 呼び出し元がトランザクション内の場合は、未コミットの変更を参照できるよう合流せずにそのトランザクションで検索する。
+ * ReadYourWritesContext でプライマリに固定されている場合も合流しない（レプリカ向けのバッチに混ぜると、
+ * 直前の書き込みが反映されていないレプリカで検索されることがあるため）。
+ * coalescing-window が 0 の場合は合流しない。
+ */
+@Component
+public class OrderLookupCoalescer {
+
+    private final OrderReadRepository orderReadRepository;
+    private final RequestCoalescer<String, Order> coalescer;
+
+    public OrderLookupCoalescer(OrderReadRepository orderReadRepository,
+                                @Value("${app.order.lookup.coalescing-window:0ms}") Duration window,
+                                @Value("${app.order.lookup.max-batch-size:100}") int maxBatchSize) {
+        this.orderReadRepository = orderReadRepository;
+        this.coalescer = window.isZero() ? null : new RequestCoalescer<>(
+                orderNumbers -> orderReadRepository.findByOrderNumbers(orderNumbers).stream()
+                        .collect(Collectors.toMap(Order::orderNumber, Function.identity())),
+                window, maxBatchSize);
+    }
+
+    /**
+     * 注文番号で検索
+     */
+    public Optional<Order> findByOrderNumber(String orderNumber) {
+        if (coalescer == null || TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return orderReadRepository.findByOrderNumbers(List.of(orderNumber)).stream().findFirst();
+        }
+        return Optional.ofNullable(coalescer.get(orderNumber));
+    }
+}
@@ -1,9 +1,9 @@
 package com.example.app.infra.order;
 
+import com.example.app.domain.common.Money;
 import com.example.app.domain.order.Order;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -21,8 +21,9 @@ public class OrderMapper {
                 .map(t -> new Order(
                         t.getOrderNumber(),
                         t.getCustomerName(),
-                        Optional.ofNullable(t.getTotalAmount()).orElseGet(() -> BigDecimal.valueOf(0)).doubleValue(),
-                        t.getStatus()
+                        Optional.ofNullable(t.getTotalAmount()).orElse(Money.ZERO),
+                        t.getStatus(),
+                        t.getVersion()
                 ));
     }
 
@@ -37,7 +38,7 @@ public class OrderMapper {
         return OrderTable.builder()
                 .orderNumber(order.orderNumber())
                 .customerName(order.customerName())
-                .totalAmount(order.totalAmount() != null ? BigDecimal.valueOf(order.totalAmount()) : null)
+                .totalAmount(order.totalAmount())
                 .status(order.status())
                 .build();
     }
@@ -51,7 +52,7 @@ public class OrderMapper {
         }
         existingTable.setOrderNumber(order.orderNumber());
         existingTable.setCustomerName(order.customerName());
-        existingTable.setTotalAmount(order.totalAmount() != null ? BigDecimal.valueOf(order.totalAmount()) : null);
+        existingTable.setTotalAmount(order.totalAmount());
         existingTable.setStatus(order.status());
         return existingTable;
     }
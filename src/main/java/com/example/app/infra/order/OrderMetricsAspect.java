@@ -0,0 +1,150 @@
+package com.example.app.infra.order;
+
+import com.example.app.usecase.order.OrderPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 注文永続化層のメトリクス
+ * <p>
+ * OrderRepositoryImpl と CachingOrderRepository の各メソッドのレイテンシ（ヒストグラム）と取得行数を記録する。
+ * layer タグで区別し、cache はキャッシュヒットを含む呼び出し元から見た時間、database は DB まで到達した呼び出しの時間を表す。
+ * メーターはメソッドと例外クラスごとに初回だけ登録してキャッシュし、記録時は System.nanoTime の差分を渡すだけにする
+ * （Timer.Sample やタグ配列を呼び出しごとに生成しない）。
+ * OrderMapper の変換は行ごとに呼ばれるためプロキシせず、呼び出し元のリポジトリメソッドの時間に含めて計測する。
+ * トランザクションのコミット時間を含めるため、@Transactional より外側で計測する。
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class OrderMetricsAspect {
+
+    static final String REPOSITORY_TIMER = "orders.repository";
+    static final String REPOSITORY_ROWS = "orders.repository.rows";
+    static final String LAYER_CACHE = "cache";
+    static final String LAYER_DATABASE = "database";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, RepositoryMeters> databaseMeters = new ConcurrentHashMap<>();
+    private final Map<Method, RepositoryMeters> cacheMeters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.app.infra.order.OrderRepositoryImpl.*(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, databaseMeters, LAYER_DATABASE);
+    }
+
+    @Around("execution(public * com.example.app.infra.order.CachingOrderRepository.*(..))")
+    public Object measureCachingRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, cacheMeters, LAYER_CACHE);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, Map<Method, RepositoryMeters> metersByMethod, String layer)
+            throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RepositoryMeters meters = metersByMethod.get(method);
+        if (meters == null) {
+            meters = metersByMethod.computeIfAbsent(method, m -> registerRepositoryMeters(m, layer));
+        }
+
+        Object[] args = joinPoint.getArgs();
+        long[] consumed = null;
+        if (args.length > 0 && args[args.length - 1] instanceof Consumer<?> consumer) {
+            // exportAll のようにコールバックで返すメソッドは、渡した件数を行数とする
+            long[] counter = new long[1];
+            @SuppressWarnings("unchecked")
+            Consumer<Object> delegate = (Consumer<Object>) consumer;
+            args[args.length - 1] = (Consumer<Object>) row -> {
+                counter[0]++;
+                delegate.accept(row);
+            };
+            consumed = counter;
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed(args);
+        } catch (Throwable e) {
+            Timer errorTimer = meters.errors().get(e.getClass());
+            if (errorTimer == null) {
+                errorTimer = meters.errors().computeIfAbsent(e.getClass(),
+                        type -> repositoryTimer(method, layer, "error", type.getSimpleName()));
+            }
+            errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        meters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        long rows = consumed != null ? consumed[0] : rows(result);
+        if (rows >= 0) {
+            meters.rows().record(rows);
+        }
+        return result;
+    }
+
+    private RepositoryMeters registerRepositoryMeters(Method method, String layer) {
+        return new RepositoryMeters(
+                repositoryTimer(method, layer, "success", "none"),
+                DistributionSummary.builder(REPOSITORY_ROWS)
+                        .description("Rows returned or written per OrderRepository call")
+                        .baseUnit("rows")
+                        .tags("method", method.getName(), "layer", layer)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue(100_000.0)
+                        .register(meterRegistry),
+                new ConcurrentHashMap<>());
+    }
+
+    private Timer repositoryTimer(Method method, String layer, String outcome, String exception) {
+        return Timer.builder(REPOSITORY_TIMER)
+                .description("OrderRepository latency including commit")
+                .tags("method", method.getName(), "layer", layer, "outcome", outcome, "exception", exception)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 戻り値の行数（行数を持たない戻り値は -1）
+     */
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof OrderPage page) {
+            return page.orders().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    /**
+     * @param errors 例外クラスごとの失敗時のタイマー
+     */
+    private record RepositoryMeters(Timer timer, DistributionSummary rows, Map<Class<?>, Timer> errors) {
+    }
+}
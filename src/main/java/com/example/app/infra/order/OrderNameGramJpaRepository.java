@@ -0,0 +1,34 @@
+package com.example.app.infra.order;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 顧客名 N-gram インデックス JPA リポジトリ
+ */
+@Repository
+public interface OrderNameGramJpaRepository extends JpaRepository<OrderNameGramTable, OrderNameGramTable.Key> {
+
+    /**
+     * 指定した gram をすべて含む注文 ID を ID 昇順で取得（ポスティングリストの積集合）
+     */
+    @Query("SELECT g.orderId FROM OrderNameGramTable g "
+            + "WHERE g.gram IN :grams AND g.orderId > :after "
+            + "GROUP BY g.orderId HAVING COUNT(g.gram) = :gramCount "
+            + "ORDER BY g.orderId")
+    List<UUID> findOrderIdsContainingAll(Collection<String> grams, long gramCount, UUID after, Limit limit);
+
+    /**
+     * 指定した注文のエントリを削除
+     */
+    @Modifying
+    @Query("DELETE FROM OrderNameGramTable g WHERE g.orderId IN :orderIds")
+    int deleteByOrderIds(Collection<UUID> orderIds);
+}
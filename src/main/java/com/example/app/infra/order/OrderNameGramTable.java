@@ -0,0 +1,47 @@
+package com.example.app.infra.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 顧客名 N-gram 転置インデックスエンティティ
+ * <p>
+ * 主キー (gram, order_id) がそのまま gram ごとのポスティングリスト（order_id 昇順）になる。
+ */
+@Entity
+@Table(name = "order_name_grams", indexes = @Index(name = "idx_order_name_grams_order_id", columnList = "order_id"))
+@IdClass(OrderNameGramTable.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderNameGramTable {
+
+    @Id
+    @Column(name = "gram", nullable = false, length = 8)
+    private String gram;
+
+    @Id
+    @Column(name = "order_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID orderId;
+
+    /**
+     * 複合主キー
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String gram;
+        private UUID orderId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.app.infra.order;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 顧客名の N-gram 転置インデックス
+ * <p>
+ * 日本語の氏名は単語分割できないため、正規化した顧客名の 1-gram と 2-gram（コードポイント単位）を
+ * order_name_grams テーブルに保持する。部分一致検索は検索語の gram のポスティングリストを積集合して候補を絞り、
+ * 候補の顧客名を実際に照合して誤検出を除く。
+ * <p>
+ * 正規化は NFKC + 小文字化のため、全角英数字や大文字小文字の違いは同一視される。
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderNameIndex {
+
+    private final OrderNameGramJpaRepository orderNameGramJpaRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 検索・照合用に文字列を正規化
+     */
+    public static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 注文の顧客名をインデックスに登録
+     * <p>
+     * 呼び出し元のトランザクション内で実行すること。
+     */
+    public void index(UUID orderId, String customerName) {
+        for (String gram : indexGrams(normalize(customerName))) {
+            entityManager.persist(new OrderNameGramTable(gram, orderId));
+        }
+    }
+
+    /**
+     * 正規化済みの検索語を含む可能性がある注文 ID を、after より後ろから ID 昇順で取得
+     *
+     * @param normalizedQuery 正規化済みの検索語（空文字不可）
+     */
+    public List<UUID> findCandidates(String normalizedQuery, UUID after, int limit) {
+        Set<String> grams = queryGrams(normalizedQuery);
+        return orderNameGramJpaRepository.findOrderIdsContainingAll(grams, grams.size(), after, Limit.of(limit));
+    }
+
+    /**
+     * 指定した注文のエントリを削除
+     */
+    public void remove(Collection<UUID> orderIds) {
+        if (!orderIds.isEmpty()) {
+            orderNameGramJpaRepository.deleteByOrderIds(orderIds);
+        }
+    }
+
+    /**
+     * 登録用の gram（全 1-gram と全 2-gram）
+     */
+    static Set<String> indexGrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 検索用の gram（1 文字なら 1-gram、2 文字以上なら全 2-gram）
+     */
+    static Set<String> queryGrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(normalized);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+}
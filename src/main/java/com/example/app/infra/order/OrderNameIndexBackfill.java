@@ -0,0 +1,75 @@
+package com.example.app.infra.order;
+
+import com.example.app.infra.common.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 顧客名インデックスのバックフィルジョブ
+ * <p>
+ * 顧客名インデックス導入前から存在する注文（order_name_grams に行がない注文）を ID 昇順のチャンク単位で登録する。
+ * app.order.search.backfill-name-index=true で起動した場合だけ実行し、完了後にアプリケーションを終了する。
+ * アップグレード時に 1 回だけ、1 インスタンスで実行する（例: just app-backfill-name-index）。
+ * <p>
+ * save() は注文とインデックスを同じトランザクションで登録するため、コミット済みの注文でインデックスがないのは
+ * 導入前の注文だけであり、稼働中のインスタンスと並行して実行しても重複しない。途中で止めても再実行すれば続きから登録する。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.order.search", name = "backfill-name-index", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderNameIndexBackfill implements ApplicationRunner {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderNameIndex orderNameIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long indexed = backfill();
+        log.info("Backfilled customer name index for {} orders", indexed);
+        SpringApplication.exit(applicationContext);
+    }
+
+    /**
+     * インデックスのない注文をすべて登録
+     *
+     * @return 登録した注文の件数
+     */
+    long backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID after = UuidBytes.MIN_VALUE;
+        long indexed = 0;
+        while (true) {
+            UUID cursor = after;
+            List<UUID> ids = transactionTemplate.execute(status -> indexChunk(cursor));
+            if (ids == null || ids.isEmpty()) {
+                return indexed;
+            }
+            indexed += ids.size();
+            // 顧客名が空で gram のない注文を再選択しないよう、登録済みの末尾から続ける
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    private List<UUID> indexChunk(UUID after) {
+        List<OrderTable> tables = orderJpaRepository.findUnindexedAfter(after, Limit.of(CHUNK_SIZE));
+        tables.forEach(t -> orderNameIndex.index(t.getId(), t.getCustomerName()));
+        return tables.stream().map(OrderTable::getId).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrdersArchivedEvent;
+import com.example.app.infra.common.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 注文の一括削除・アーカイブ
+ * <p>
+ * エンティティを読み込まず、ID 昇順のチャンク単位で削除する。1 回の呼び出しが 1 トランザクションとなり、
+ * 行ロックとアンドゥログはチャンク分に収まる。顧客名インデックスのエントリも同じトランザクションで削除し、
+ * 変更カウンターも同じトランザクションで増やす。
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderPurger {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderChangeVersionRepository orderChangeVersionRepository;
+
+    /**
+     * ID の小さい順に最大 limit 件の注文を削除
+     *
+     * @return 削除件数（limit 未満なら残りはない）
+     */
+    @Transactional
+    public int deleteChunk(int limit) {
+        List<byte[]> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM orders ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource("limit", limit), byte[].class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("DELETE FROM order_name_grams WHERE order_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN (:ids)", params);
+        orderChangeVersionRepository.increment();
+        return ids.size();
+    }
+
+    /**
+     * after より後ろ、before より前の ID を持つ statuses の注文を、ID 昇順で最大 limit 件 orders_archive へ移動
+     * <p>
+     * UUIDv7 の ID は作成日時順のため、before に {@code UuidV7Factory.lowerBound(cutoff)} を渡すと
+     * cutoff より前に作成された注文が対象になる。
+     * 対象の行は FOR UPDATE SKIP LOCKED でロックして選ぶため、複数のインスタンスが同時に実行しても
+     * 他のインスタンスが移動中の行は飛ばし、同じ注文を二重に移動しない。
+     *
+     * @return 移動件数とステータス別の件数・合計金額、次のチャンクの起点となる ID（対象が残っていない場合は null）
+     */
+    @Transactional
+    public Chunk archiveChunk(Set<OrderStatus> statuses, UUID after, UUID before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("statuses", statuses.stream().map(Enum::name).toList())
+                .addValue("after", UuidBytes.toBytes(after))
+                .addValue("before", UuidBytes.toBytes(before))
+                .addValue("limit", limit);
+        List<byte[]> ids = new ArrayList<>(limit);
+        Map<OrderStatus, OrdersArchivedEvent.StatusTotal> totals = new EnumMap<>(OrderStatus.class);
+        jdbcTemplate.query(
+                "SELECT id, status, total_amount FROM orders WHERE status IN (:statuses) AND id > :after "
+                        + "AND id < :before ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                params, rs -> {
+                    ids.add(rs.getBytes(1));
+                    OrderStatus status = OrderStatus.valueOf(rs.getString(2));
+                    Money totalAmount = Money.parse(rs.getString(3));
+                    totals.merge(status, new OrdersArchivedEvent.StatusTotal(status, 1, totalAmount),
+                            (a, b) -> new OrdersArchivedEvent.StatusTotal(
+                                    status, a.count() + b.count(), a.totalAmount().plus(b.totalAmount())));
+                });
+        if (ids.isEmpty()) {
+            return new Chunk(0, List.of(), null);
+        }
+        params.addValue("ids", ids);
+        // 選んだ行は排他ロック済みのため、DELETE までの間にステータスは変わらない
+        int archived = jdbcTemplate.update(
+                "INSERT INTO orders_archive (id, order_number, customer_name, total_amount, status, version, "
+                        + "created_at, updated_at, archived_at) "
+                        + "SELECT id, order_number, customer_name, total_amount, status, version, "
+                        + "created_at, updated_at, CURRENT_TIMESTAMP FROM orders "
+                        + "WHERE id IN (:ids) AND status IN (:statuses)",
+                params);
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM orders WHERE id IN (:ids) AND status IN (:statuses)", params);
+        if (deleted != archived) {
+            throw new IllegalStateException("Archived " + archived + " orders but deleted " + deleted);
+        }
+        // 途中でステータスが変わり移動しなかった注文のエントリは残す
+        jdbcTemplate.update("DELETE FROM order_name_grams WHERE order_id IN (:ids) "
+                + "AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.id = order_name_grams.order_id)", params);
+        if (archived > 0) {
+            orderChangeVersionRepository.increment();
+        }
+        UUID next = ids.size() < limit ? null : UuidBytes.fromBytes(ids.get(ids.size() - 1));
+        return new Chunk(archived, List.copyOf(totals.values()), next);
+    }
+
+    /**
+     * 1 チャンク分のアーカイブ結果
+     *
+     * @param archived 移動件数
+     * @param totals   ステータス別の移動件数と合計金額
+     * @param next     次のチャンクの起点 ID（最後のチャンクの場合は null）
+     */
+    public record Chunk(int archived, List<OrdersArchivedEvent.StatusTotal> totals, UUID next) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.common.UuidBytes;
+import com.example.app.usecase.order.OrderStatusSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 注文の読み取り専用クエリ
+ * <p>
+ * 一覧系の参照は管理エンティティを経由せず、必要な列だけを Order レコードへ直接マッピングする。
+ * Hibernate のダーティチェック用スナップショット、OrderMapper の Optional、BigDecimal の中間生成が発生しない。
+ * 金額は DECIMAL の文字列表現から Money を直接解析する。
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderReadRepository {
+
+    private static final String SELECT_ORDER =
+            "SELECT order_number, customer_name, total_amount, status, version FROM orders";
+
+    private static final RowMapper<Order> ORDER_ROW_MAPPER = (rs, rowNum) -> new Order(
+            rs.getString(1),
+            rs.getString(2),
+            Money.parse(rs.getString(3)),
+            OrderStatus.valueOf(rs.getString(4)),
+            rs.getLong(5)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 全注文を ID 昇順で取得
+     */
+    public List<Order> findAll() {
+        return jdbcTemplate.query(SELECT_ORDER + " ORDER BY id", ORDER_ROW_MAPPER);
+    }
+
+    /**
+     * ステータスで検索（ID 昇順）
+     */
+    public List<Order> findByStatus(OrderStatus status) {
+        return jdbcTemplate.query(SELECT_ORDER + " WHERE status = :status ORDER BY id",
+                Map.of("status", status.name()), ORDER_ROW_MAPPER);
+    }
+
+    /**
+     * 注文番号の集合で検索（ID 昇順、存在しない注文番号は含まない）
+     */
+    public List<Order> findByOrderNumbers(Collection<String> orderNumbers) {
+        if (orderNumbers.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_ORDER + " WHERE order_number IN (:orderNumbers) ORDER BY id",
+                Map.of("orderNumbers", orderNumbers), ORDER_ROW_MAPPER);
+    }
+
+    /**
+     * ID の集合で検索（ID 昇順）
+     */
+    public List<Order> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<byte[]> idBytes = ids.stream().map(UuidBytes::toBytes).toList();
+        return jdbcTemplate.query(SELECT_ORDER + " WHERE id IN (:ids) ORDER BY id",
+                Map.of("ids", idBytes), ORDER_ROW_MAPPER);
+    }
+
+    /**
+     * ステータス別の件数と合計金額を集計
+     */
+    public List<OrderStatusSummary> summarizeByStatus() {
+        return jdbcTemplate.query(
+                "SELECT status, COUNT(*), COALESCE(SUM(total_amount), 0) FROM orders GROUP BY status",
+                (rs, rowNum) -> new OrderStatusSummary(
+                        OrderStatus.valueOf(rs.getString(1)),
+                        rs.getLong(2),
+                        Money.parse(rs.getString(3))
+                ));
+    }
+}
@@ -2,61 +2,282 @@ package com.example.app.infra.order;
 
 import com.example.app.domain.order.Order;
 import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrderStatusChangedEvent;
+import com.example.app.domain.order.OrdersCreatedEvent;
+import com.example.app.domain.order.OrdersDeletedEvent;
+import com.example.app.infra.common.UuidBytes;
+import com.example.app.infra.common.UuidV7Factory;
+import com.example.app.usecase.order.OrderPage;
 import com.example.app.usecase.order.OrderRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 注文リポジトリ実装
+ * <p>
+ * 参照系は読み取り専用トランザクションで実行する（読み取りレプリカ有効時はレプリカから読む）。
  */
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
+    /**
+     * 一括保存時のチャンクサイズ（hibernate.jdbc.batch_size と揃える）
+     */
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * 顧客名検索で一度に照合する候補 ID の件数
+     */
+    static final int SEARCH_CANDIDATE_CHUNK_SIZE = 500;
+
+    /**
+     * 一括ステータス変更で 1 トランザクションに変更する件数
+     */
+    static final int STATUS_UPDATE_CHUNK_SIZE = 500;
+
+    /**
+     * 全削除で 1 トランザクションに削除する件数
+     */
+    static final int DELETE_CHUNK_SIZE = 1000;
+
     private final OrderJpaRepository orderJpaRepository;
     private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final OrderNameIndex orderNameIndex;
+    private final OrderReadRepository orderReadRepository;
+    private final OrderLookupCoalescer orderLookupCoalescer;
+    private final OrderStatusUpdater orderStatusUpdater;
+    private final OrderPurger orderPurger;
+    private final OrderChangeVersionRepository orderChangeVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Order> findAll() {
-        return orderJpaRepository.findAll().stream()
+        return orderReadRepository.findAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPage findPage(String after, int limit) {
+        // 次ページの有無を判定するため 1 件多く取得する
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<OrderTable> tables = after == null
+                ? orderJpaRepository.findAllByOrderByIdAsc(fetchLimit)
+                : orderJpaRepository.findByIdGreaterThanOrderByIdAsc(OrderCursor.decode(after), fetchLimit);
+        return toPage(tables, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPage findCreatedBetween(Instant from, Instant to, String after, int limit) {
+        UUID lower = UuidV7Factory.lowerBound(clamp(from));
+        UUID upper = UuidV7Factory.lowerBound(clamp(to));
+        UUID cursor = after == null ? UuidBytes.MIN_VALUE : OrderCursor.decode(after);
+        // 次ページの有無を判定するため 1 件多く取得する
+        List<OrderTable> tables = orderJpaRepository.findByIdRange(lower, upper, cursor, Limit.of(limit + 1));
+        return toPage(tables, limit);
+    }
+
+    /**
+     * UUIDv7 で表現できる範囲に切り詰める
+     */
+    private static Instant clamp(Instant instant) {
+        if (instant.isBefore(Instant.EPOCH)) {
+            return Instant.EPOCH;
+        }
+        return instant.isAfter(UuidV7Factory.MAX_INSTANT) ? UuidV7Factory.MAX_INSTANT : instant;
+    }
+
+    private OrderPage toPage(List<OrderTable> tables, int limit) {
+        boolean hasNext = tables.size() > limit;
+        List<OrderTable> page = hasNext ? tables.subList(0, limit) : tables;
+        List<Order> orders = page.stream()
                 .flatMap(t -> orderMapper.toDomain(t).stream())
                 .toList();
+        String nextCursor = hasNext ? OrderCursor.encode(page.get(limit - 1).getId()) : null;
+        return new OrderPage(orders, nextCursor);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Order> consumer) {
+        try (Stream<OrderTable> tables = orderJpaRepository.streamAllByOrderByIdAsc()) {
+            tables.forEach(t -> {
+                orderMapper.toDomain(t).ifPresent(consumer);
+                // 一次キャッシュに溜め込まないよう 1 件ごとに切り離す
+                entityManager.detach(t);
+            });
+        }
+    }
+
+    /**
+     * 注文番号で検索
+     * <p>
+     * 同時に届いた検索は OrderLookupCoalescer で 1 回の IN 検索にまとめるため、ここではトランザクションを開始しない
+     * （合流を待つ間に接続を保持しないため）。
+     */
     @Override
     public Optional<Order> findByOrderNumber(String orderNumber) {
-        return orderJpaRepository.findByOrderNumber(orderNumber)
-                .flatMap(orderMapper::toDomain);
+        return orderLookupCoalescer.findByOrderNumber(orderNumber);
     }
 
     @Override
-    public List<Order> findByStatus(OrderStatus status) {
-        return orderJpaRepository.findByStatus(status).stream()
-                .flatMap(t -> orderMapper.toDomain(t).stream())
+    @Transactional(readOnly = true)
+    public List<Order> findByOrderNumbers(Collection<String> orderNumbers) {
+        Set<String> distinct = new LinkedHashSet<>(orderNumbers);
+        Map<String, Order> found = orderReadRepository.findByOrderNumbers(distinct).stream()
+                .collect(Collectors.toMap(Order::orderNumber, Function.identity()));
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByStatus(OrderStatus status) {
+        return orderReadRepository.findByStatus(status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Order> findByCustomerNameContaining(String customerName) {
-        return orderJpaRepository.findByCustomerNameContaining(customerName).stream()
-                .flatMap(t -> orderMapper.toDomain(t).stream())
-                .toList();
+        return findByCustomerNameContaining(customerName, Integer.MAX_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByCustomerNameContaining(String customerName, int limit) {
+        String query = OrderNameIndex.normalize(customerName);
+        if (query.isEmpty()) {
+            return orderJpaRepository.findAllByOrderByIdAsc(Limit.of(limit)).stream()
+                    .flatMap(t -> orderMapper.toDomain(t).stream())
+                    .toList();
+        }
+
+        // インデックスで絞った候補を ID 順に照合し、N-gram の誤検出を除きながら limit 件まで集める
+        List<Order> found = new ArrayList<>();
+        UUID after = UuidBytes.MIN_VALUE;
+        while (found.size() < limit) {
+            List<UUID> candidates = orderNameIndex.findCandidates(query, after, SEARCH_CANDIDATE_CHUNK_SIZE);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            for (Order order : orderReadRepository.findByIds(candidates)) {
+                if (found.size() < limit && OrderNameIndex.normalize(order.customerName()).contains(query)) {
+                    found.add(order);
+                }
+            }
+            if (candidates.size() < SEARCH_CANDIDATE_CHUNK_SIZE) {
+                break;
+            }
+            after = candidates.get(candidates.size() - 1);
+        }
+        return found;
     }
 
     @Override
+    @Transactional
     public Order save(Order order) {
         OrderTable table = orderMapper.toTable(order);
         OrderTable savedTable = orderJpaRepository.save(table);
-        return orderMapper
+        orderNameIndex.index(savedTable.getId(), savedTable.getCustomerName());
+        Order savedOrder = orderMapper
                 .toDomain(savedTable)
                 .orElseThrow(() -> new IllegalStateException("Failed to map saved OrderTable to Order domain"));
+        // 変更カウンターの行ロックを最後に取るため、注文の INSERT を先に送信する
+        entityManager.flush();
+        orderChangeVersionRepository.increment();
+        eventPublisher.publishEvent(new OrdersCreatedEvent(List.of(savedOrder)));
+        return savedOrder;
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> savedOrders = new ArrayList<>(orders.size());
+        for (int from = 0; from < orders.size(); from += BATCH_SIZE) {
+            List<OrderTable> chunk = orders.subList(from, Math.min(from + BATCH_SIZE, orders.size())).stream()
+                    .map(orderMapper::toTable)
+                    .toList();
+            orderJpaRepository.saveAll(chunk);
+            chunk.forEach(t -> orderNameIndex.index(t.getId(), t.getCustomerName()));
+            // チャンク単位で JDBC バッチとして送信し、一次キャッシュを解放する
+            entityManager.flush();
+            entityManager.clear();
+            chunk.forEach(t -> orderMapper.toDomain(t).ifPresent(savedOrders::add));
+        }
+        if (!savedOrders.isEmpty()) {
+            orderChangeVersionRepository.increment();
+        }
+        eventPublisher.publishEvent(new OrdersCreatedEvent(savedOrders));
+        return savedOrders;
+    }
+
+    @Override
+    @Transactional
+    public boolean transitionStatus(String orderNumber, OrderStatus target, Long expectedVersion) {
+        Set<OrderStatus> sources = target.sources();
+        if (sources.isEmpty()) {
+            return false;
+        }
+        Optional<OrderStatusUpdater.Transition> transition =
+                orderStatusUpdater.update(orderNumber, sources, target, expectedVersion);
+        transition.ifPresent(t -> eventPublisher.publishEvent(
+                new OrderStatusChangedEvent(orderNumber, t.from(), target, 1, t.totalAmount())));
+        return transition.isPresent();
+    }
+
+    @Override
+    public int transitionStatus(OrderStatus source, OrderStatus target, LocalDateTime createdBefore) {
+        if (!source.canTransitionTo(target)) {
+            throw new IllegalArgumentException("Cannot transition from " + source + " to " + target);
+        }
+        int total = 0;
+        UUID after = UuidBytes.MIN_VALUE;
+        while (after != null) {
+            // チャンクごとに別トランザクションでコミットする
+            OrderStatusUpdater.Chunk chunk = orderStatusUpdater.updateChunk(
+                    source, target, createdBefore, after, STATUS_UPDATE_CHUNK_SIZE);
+            if (chunk.updated() > 0) {
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                        null, source, target, chunk.updated(), chunk.totalAmount()));
+            }
+            total += chunk.updated();
+            after = chunk.next();
+        }
+        return total;
     }
 
     @Override
     public void deleteAll() {
-        orderJpaRepository.deleteAll();
+        // チャンクごとに別トランザクションでコミットし、全行のロックとアンドゥログを 1 トランザクションに溜めない
+        int deleted;
+        do {
+            deleted = orderPurger.deleteChunk(DELETE_CHUNK_SIZE);
+        } while (deleted == DELETE_CHUNK_SIZE);
+        eventPublisher.publishEvent(new OrdersDeletedEvent());
     }
 }
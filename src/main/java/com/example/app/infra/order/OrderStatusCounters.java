@@ -0,0 +1,191 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrderStatusChangedEvent;
+import com.example.app.domain.order.OrdersArchivedEvent;
+import com.example.app.domain.order.OrdersCreatedEvent;
+import com.example.app.domain.order.OrdersDeletedEvent;
+import com.example.app.usecase.order.OrderStatistics;
+import com.example.app.usecase.order.OrderStatusSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * ステータス別の件数・合計金額カウンター
+ * <p>
+ * 初回参照時に GROUP BY で集計し、以降はコミット済みの作成・ステータス変更・アーカイブのイベントで差分を加算する。
+ * 差分はこのインスタンスで書き込んだ分だけのため、他のインスタンスの書き込みは
+ * app.order.stats.reconcile-interval ごとの再集計でのみ反映される。同じ再集計で、集計とイベントの競合によるずれも補正する。
+ * 再集計中は差分の加算を待たせ、差し替え後のカウンターへ加算する（差し替え前のカウンターへの加算で失われない）。
+ * 金額は Money の最小通貨単位（1/100）をそのまま合算する。
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusCounters implements OrderStatistics {
+
+    private final OrderReadRepository orderReadRepository;
+
+    /**
+     * 未集計の場合は null
+     */
+    private volatile Map<OrderStatus, StatusCounter> counters;
+
+    /**
+     * 差分の加算（読み取りロック、並行可）と再集計による差し替え（書き込みロック）を排他するロック
+     */
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    @Override
+    public List<OrderStatusSummary> summarizeByStatus() {
+        Map<OrderStatus, StatusCounter> current = counters();
+        return Arrays.stream(OrderStatus.values())
+                .map(status -> current.get(status).toSummary(status))
+                .toList();
+    }
+
+    /**
+     * 作成された注文を加算
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersCreated(OrdersCreatedEvent event) {
+        apply(current -> {
+            for (Order order : event.orders()) {
+                current.get(order.status()).add(1, order.totalAmount());
+            }
+        });
+    }
+
+    /**
+     * 全件削除後は再集計する
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersDeleted(OrdersDeletedEvent event) {
+        if (counters != null) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 変更前のステータスから変更後のステータスへ件数と金額を移す
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        apply(current -> {
+            current.get(event.from()).subtract(event.count(), event.totalAmount());
+            current.get(event.status()).add(event.count(), event.totalAmount());
+        });
+    }
+
+    /**
+     * アーカイブした注文を減算
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersArchived(OrdersArchivedEvent event) {
+        apply(current -> {
+            for (OrdersArchivedEvent.StatusTotal total : event.totals()) {
+                current.get(total.status()).subtract(total.count(), total.totalAmount());
+            }
+        });
+    }
+
+    /**
+     * 定期的に DB の集計値で置き換える
+     */
+    @Scheduled(initialDelayString = "${app.order.stats.reconcile-interval:5m}",
+            fixedDelayString = "${app.order.stats.reconcile-interval:5m}")
+    public void reconcileIfInitialized() {
+        if (counters != null) {
+            reconcile();
+        }
+    }
+
+    /**
+     * DB の GROUP BY 集計でカウンターを置き換える
+     */
+    public void reconcile() {
+        reconcileLock.writeLock().lock();
+        try {
+            Map<OrderStatus, StatusCounter> reconciled = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus status : OrderStatus.values()) {
+                reconciled.put(status, new StatusCounter());
+            }
+            for (OrderStatusSummary summary : orderReadRepository.summarizeByStatus()) {
+                reconciled.get(summary.status()).seed(summary);
+            }
+            counters = reconciled;
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 集計済みであれば現在のカウンターへ差分を加算する（未集計の場合は初回集計に含まれる）
+     */
+    private void apply(Consumer<Map<OrderStatus, StatusCounter>> delta) {
+        reconcileLock.readLock().lock();
+        try {
+            Map<OrderStatus, StatusCounter> current = counters;
+            if (current != null) {
+                delta.accept(current);
+            }
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private Map<OrderStatus, StatusCounter> counters() {
+        Map<OrderStatus, StatusCounter> current = counters;
+        if (current == null) {
+            synchronized (this) {
+                if (counters == null) {
+                    reconcile();
+                }
+                current = counters;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 1 ステータス分のカウンター
+     */
+    private static final class StatusCounter {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amountInMinorUnits = new LongAdder();
+
+        void add(long count, Money totalAmount) {
+            this.count.add(count);
+            if (totalAmount != null) {
+                amountInMinorUnits.add(totalAmount.minorUnits());
+            }
+        }
+
+        void subtract(long count, Money totalAmount) {
+            this.count.add(-count);
+            amountInMinorUnits.add(-totalAmount.minorUnits());
+        }
+
+        void seed(OrderStatusSummary summary) {
+            count.add(summary.count());
+            amountInMinorUnits.add(summary.totalAmount().minorUnits());
+        }
+
+        OrderStatusSummary toSummary(OrderStatus status) {
+            return new OrderStatusSummary(status, count.sum(), Money.ofMinor(amountInMinorUnits.sum()));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.common.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 注文ステータスの条件付き更新
+ * <p>
+ * エンティティを読み込まず、対象行の変更前のステータスと金額だけを FOR UPDATE で読んでから UPDATE で変更する。
+ * 読んだ行はコミットまでロックされるため、返す変更前のステータスと金額は実際に変更した行と一致する。
+ * 対象外のステータスの注文は変更しない。
+ * 変更した注文は version を 1 増やし、変更があったトランザクションでは変更カウンターも増やす。
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusUpdater {
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getBytes(1),
+            OrderStatus.valueOf(rs.getString(2)),
+            Money.parse(rs.getString(3)),
+            rs.getLong(4)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderChangeVersionRepository orderChangeVersionRepository;
+
+    /**
+     * 1 件の注文のステータスを変更
+     *
+     * @param sources         遷移元として許可するステータス
+     * @param expectedVersion 指定した場合はこのバージョンのときだけ変更する
+     * @return 変更した場合は変更前のステータスと金額
+     */
+    @Transactional
+    public Optional<Transition> update(String orderNumber, Set<OrderStatus> sources, OrderStatus target,
+                                       Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("orderNumber", orderNumber)
+                .addValue("target", target.name());
+        List<Row> rows = jdbcTemplate.query(
+                "SELECT id, status, total_amount, version FROM orders WHERE order_number = :orderNumber FOR UPDATE",
+                params, ROW_MAPPER);
+        if (rows.size() != 1) {
+            return Optional.empty();
+        }
+        Row row = rows.get(0);
+        if (!sources.contains(row.status()) || (expectedVersion != null && row.version() != expectedVersion)) {
+            return Optional.empty();
+        }
+        jdbcTemplate.update("UPDATE orders SET status = :target, version = version + 1, "
+                + "updated_at = CURRENT_TIMESTAMP WHERE id = :id", params.addValue("id", row.id()));
+        orderChangeVersionRepository.increment();
+        return Optional.of(new Transition(row.status(), row.totalAmount()));
+    }
+
+    /**
+     * createdBefore より前に作成された source の注文を、after より後ろから ID 昇順で最大 limit 件 target へ変更
+     * <p>
+     * 1 回の呼び出しが 1 トランザクションとなり、行ロックは limit 件分だけ短時間保持される。
+     *
+     * @return 変更件数と合計金額、次のチャンクの起点となる ID（対象が残っていない場合は null）
+     */
+    @Transactional
+    public Chunk updateChunk(OrderStatus source, OrderStatus target, LocalDateTime createdBefore, UUID after,
+                             int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("source", source.name())
+                .addValue("target", target.name())
+                .addValue("createdBefore", createdBefore)
+                .addValue("after", UuidBytes.toBytes(after))
+                .addValue("limit", limit);
+        // 選んだ行は排他ロックするため、UPDATE までの間にステータスは変わらない
+        List<Row> rows = jdbcTemplate.query(
+                "SELECT id, status, total_amount, version FROM orders "
+                        + "WHERE status = :source AND created_at < :createdBefore AND id > :after "
+                        + "ORDER BY id LIMIT :limit FOR UPDATE",
+                params, ROW_MAPPER);
+        if (rows.isEmpty()) {
+            return new Chunk(0, Money.ZERO, null);
+        }
+        List<byte[]> ids = rows.stream().map(Row::id).toList();
+        int updated = jdbcTemplate.update(
+                "UPDATE orders SET status = :target, version = version + 1, updated_at = CURRENT_TIMESTAMP "
+                        + "WHERE id IN (:ids) AND status = :source",
+                params.addValue("ids", ids));
+        if (updated != rows.size()) {
+            throw new IllegalStateException("Locked " + rows.size() + " orders but updated " + updated);
+        }
+        orderChangeVersionRepository.increment();
+        Money totalAmount = rows.stream().map(Row::totalAmount).reduce(Money.ZERO, Money::plus);
+        UUID next = ids.size() < limit ? null : UuidBytes.fromBytes(ids.get(ids.size() - 1));
+        return new Chunk(updated, totalAmount, next);
+    }
+
+    /**
+     * 1 チャンク分の更新結果
+     *
+     * @param updated     変更件数
+     * @param totalAmount 変更した注文の合計金額
+     * @param next        次のチャンクの起点 ID（最後のチャンクの場合は null）
+     */
+    public record Chunk(int updated, Money totalAmount, UUID next) {
+    }
+
+    /**
+     * 1 件の注文の変更結果
+     *
+     * @param from        変更前のステータス
+     * @param totalAmount 変更した注文の金額
+     */
+    public record Transition(OrderStatus from, Money totalAmount) {
+    }
+
+    private record Row(byte[] id, OrderStatus status, Money totalAmount, long version) {
+    }
+}
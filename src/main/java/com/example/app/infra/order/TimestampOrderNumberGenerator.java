@@ -0,0 +1,73 @@
+package com.example.app.infra.order;
+
+import com.example.app.usecase.order.OrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * タイムスタンプ・ノード ID・シーケンスによる注文番号ジェネレーター
+ * <p>
+ * 形式: {@code ORD-<yyyyMMddHHmmssSSS(UTC)><ノードID 3桁><シーケンス 4桁>}
+ * <p>
+ * 「ミリ秒 << 12 | シーケンス」を 1 つの AtomicLong で CAS 更新するためロックを使わない。
+ * 同一ミリ秒内で 4096 件を超えた場合やクロックが巻き戻った場合は、論理時刻を先に進めて単調増加を保つ。
+ * 固定長の数字列のため、文字列の辞書順が生成順（ノード間では時刻順）と一致する。
+ */
+@Component
+public class TimestampOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final int MAX_NODE_ID = 999;
+
+    private static final String PREFIX = "ORD-";
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public TimestampOrderNumberGenerator(@Value("${app.order.number.node-id:0}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimestampOrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String generate() {
+        long now = clock.getAsLong() << SEQUENCE_BITS;
+        long next = state.accumulateAndGet(now, (prev, current) -> Math.max(prev + 1, current));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        StringBuilder sb = new StringBuilder(28).append(PREFIX);
+        TIMESTAMP_FORMAT.formatTo(Instant.ofEpochMilli(millis), sb);
+        appendPadded(sb, nodeId, 3);
+        appendPadded(sb, sequence, 4);
+        return sb.toString();
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        for (long bound = 10; width > 1; width--, bound *= 10) {
+            if (value < bound) {
+                sb.append('0');
+            }
+        }
+        sb.append(value);
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.order.Order;
+import com.example.app.usecase.order.IngestionStatus;
+import com.example.app.usecase.order.OrderIngestor;
+import com.example.app.usecase.order.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ライトビハインド方式の注文受付
+ * <p>
+ * 受け付けた注文を容量固定のキューに積み、専用の書き込みスレッドがキューにある分をまとめて
+ * 1 トランザクションで saveAll する（グループコミット）。負荷が高いほど 1 回のコミットでまとめる件数が増える。
+ * DB に接続できないなどの一時的な失敗は、retryTimeout の間キューを止めたまま間隔を空けて再試行する。
+ * それ以外の理由で一括保存に失敗した場合は 1 件ずつ保存し直し、失敗した注文だけを FAILED とする。
+ * 書き込みスレッドが想定外のエラーで終了した場合は、キューが詰まったまま受け付け続けないよう受付を締め切る。
+ * 停止時は Web サーバーのグレースフルシャットダウン後に受付を締め切り、キューの残りを書き切ってから終了する。
+ */
+@Slf4j
+public class WriteBehindOrderIngestor implements OrderIngestor, SmartLifecycle {
+
+    /**
+     * Web サーバーより後に停止し、DataSource より先に停止するフェーズ
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * 失敗した注文番号を保持する件数と期間
+     */
+    static final long FAILED_RETENTION_SIZE = 10_000;
+    static final Duration FAILED_RETENTION = Duration.ofHours(1);
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /**
+     * 一時的な失敗を再試行する間隔（失敗のたびに倍にし、上限で頭打ちにする）
+     */
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final OrderRepository orderRepository;
+    private final BlockingQueue<Order> queue;
+    private final int maxBatchSize;
+    private final Duration shutdownTimeout;
+    private final Duration retryTimeout;
+
+    /**
+     * キューに積まれてからコミットされるまでの注文番号
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> failed = Caffeine.newBuilder()
+            .maximumSize(FAILED_RETENTION_SIZE)
+            .expireAfterWrite(FAILED_RETENTION)
+            .build();
+
+    /**
+     * 受付の締め切りと offer の間で注文を取りこぼさないためのロック
+     */
+    private final ReadWriteLock acceptingLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting;
+    private Thread writer;
+
+    public WriteBehindOrderIngestor(OrderRepository orderRepository, int queueCapacity, int maxBatchSize,
+                                    Duration shutdownTimeout, Duration retryTimeout) {
+        this.orderRepository = orderRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.retryTimeout = retryTimeout;
+    }
+
+    @Override
+    public boolean offer(Order order) {
+        acceptingLock.readLock().lock();
+        try {
+            if (!accepting) {
+                return false;
+            }
+            pending.add(order.orderNumber());
+            if (!queue.offer(order)) {
+                pending.remove(order.orderNumber());
+                return false;
+            }
+            return true;
+        } finally {
+            acceptingLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<IngestionStatus> status(String orderNumber) {
+        // 書き込みスレッドはコミット後に pending から外すため、この順で確認すれば取りこぼさない
+        if (pending.contains(orderNumber)) {
+            return Optional.of(IngestionStatus.QUEUED);
+        }
+        if (failed.getIfPresent(orderNumber) != null) {
+            return Optional.of(IngestionStatus.FAILED);
+        }
+        return orderRepository.findByOrderNumber(orderNumber).map(order -> IngestionStatus.PERSISTED);
+    }
+
+    /**
+     * 書き込み待ちの件数
+     */
+    public int queueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (accepting) {
+            return;
+        }
+        accepting = true;
+        writer = Thread.ofPlatform().name("order-ingestion-writer").start(this::drain);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!accepting) {
+            return;
+        }
+        acceptingLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptingLock.writeLock().unlock();
+        }
+        try {
+            if (!writer.join(shutdownTimeout)) {
+                log.warn("Order ingestion did not drain within {}; {} orders are not persisted",
+                        shutdownTimeout, queue.size());
+                writer.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return accepting;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drain() {
+        try {
+            while (accepting || !queue.isEmpty()) {
+                Order first;
+                try {
+                    first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // stop() がタイムアウトした場合のみ割り込まれる
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+                List<Order> batch = new ArrayList<>(Math.min(maxBatchSize, queue.size() + 1));
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            }
+        } catch (Throwable e) {
+            log.error("Order ingestion writer stopped unexpectedly; rejecting new orders", e);
+            abandon();
+        }
+    }
+
+    /**
+     * 受付を締め切り、書き込みスレッドが処理できなくなった注文を FAILED とする
+     */
+    private void abandon() {
+        acceptingLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptingLock.writeLock().unlock();
+        }
+        List<Order> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(order -> failed.put(order.orderNumber(), Boolean.TRUE));
+        // 書き込み中だった注文も pending に残るため、まとめて FAILED に移す
+        pending.forEach(orderNumber -> failed.put(orderNumber, Boolean.TRUE));
+        pending.clear();
+    }
+
+    private void write(List<Order> batch) {
+        try {
+            retryTransient(() -> orderRepository.saveAll(batch));
+            batch.forEach(order -> pending.remove(order.orderNumber()));
+            return;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                // 再試行しても回復しなかった場合、1 件ずつ保存し直しても同じく失敗する
+                log.error("Failed to persist {} orders after retrying for {}", batch.size(), retryTimeout, e);
+                batch.forEach(order -> failed.put(order.orderNumber(), Boolean.TRUE));
+                batch.forEach(order -> pending.remove(order.orderNumber()));
+                return;
+            }
+            log.warn("Group commit of {} orders failed, retrying one by one", batch.size(), e);
+        }
+        for (Order order : batch) {
+            try {
+                retryTransient(() -> orderRepository.save(order));
+            } catch (RuntimeException ex) {
+                log.error("Failed to persist order {}", order.orderNumber(), ex);
+                failed.put(order.orderNumber(), Boolean.TRUE);
+            } finally {
+                pending.remove(order.orderNumber());
+            }
+        }
+    }
+
+    /**
+     * 一時的な失敗であれば retryTimeout を超えない範囲で間隔を空けて再試行する
+     */
+    private void retryTransient(Runnable action) {
+        long deadline = System.nanoTime() + retryTimeout.toNanos();
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                action.run();
+                return;
+            } catch (RuntimeException e) {
+                long next = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+                if (!isTransient(e) || next - deadline > 0) {
+                    throw e;
+                }
+                log.warn("Transient failure while persisting orders, retrying in {} ms", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    // stop() がタイムアウトした場合のみ割り込まれる
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.app.infra.secret;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClientBuilder;
+
+import java.net.URI;
+
+/**
+ * AWS Secrets Manager からシークレットを取得する
+ * <p>
+ * 認証情報は SDK の既定プロバイダーチェーンから解決する。endpoint を指定すると LocalStack 等に接続する。
+ */
+public class AwsSecretSource implements SecretSource, AutoCloseable {
+
+    private final SecretsManagerClient client;
+
+    public AwsSecretSource(String region, String endpoint) {
+        SecretsManagerClientBuilder builder = SecretsManagerClient.builder();
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        if (endpoint != null) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        this.client = builder.build();
+    }
+
+    @Override
+    public String fetch(String secretId) {
+        return client.getSecretValue(request -> request.secretId(secretId)).secretString();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.app.infra.secret;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.config.ConfigData;
+import org.springframework.boot.context.config.ConfigDataLoader;
+import org.springframework.boot.context.config.ConfigDataLoaderContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * cached-secret: のシークレットを読み込み、JSON の各キーをプロパティとして公開する
+ * <p>
+ * 例えば {"url": "...", "username": "...", "password": "..."} を prefix=db. で読み込むと
+ * db.url / db.username / db.password になる。入れ子のオブジェクトは "." で連結する。
+ */
+public class CachedSecretConfigDataLoader implements ConfigDataLoader<CachedSecretConfigDataResource> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public ConfigData load(ConfigDataLoaderContext context, CachedSecretConfigDataResource resource) {
+        CachedSecretLoader loader = context.getBootstrapContext().get(CachedSecretLoader.class);
+        String secret = loader.load(resource.getSecretId());
+        return new ConfigData(List.of(new MapPropertySource(resource.toString(),
+                toProperties(secret, resource.getPrefix()))));
+    }
+
+    /**
+     * JSON のシークレットをプロパティに展開
+     */
+    static Map<String, Object> toProperties(String secret, String prefix) {
+        Map<String, Object> json;
+        try {
+            json = OBJECT_MAPPER.readValue(secret, new TypeReference<>() {
+            });
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Secret is not a JSON object", e);
+        }
+        Map<String, Object> properties = new LinkedHashMap<>();
+        flatten(prefix, json, properties);
+        return properties;
+    }
+
+    private static void flatten(String prefix, Map<?, ?> json, Map<String, Object> properties) {
+        json.forEach((key, value) -> {
+            if (value instanceof Map<?, ?> nested) {
+                flatten(prefix + key + ".", nested, properties);
+            } else {
+                properties.put(prefix + key, value == null ? "" : value.toString());
+            }
+        });
+    }
+}
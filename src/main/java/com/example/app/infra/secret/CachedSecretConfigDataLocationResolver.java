@@ -0,0 +1,101 @@
+package com.example.app.infra.secret;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.BootstrapRegistry;
+import org.springframework.boot.context.config.ConfigDataLocation;
+import org.springframework.boot.context.config.ConfigDataLocationResolver;
+import org.springframework.boot.context.config.ConfigDataLocationResolverContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * spring.config.import の cached-secret:&lt;secretId&gt;[?prefix=&lt;prefix&gt;] を解決する
+ * <p>
+ * 1 つのシークレットに JSON で格納した複数の値を 1 回の取得で読み込む。
+ * app.secrets.cache.enabled=true の場合は暗号化したローカルキャッシュを経由し、起動後にバックグラウンドで更新する。
+ * AWS の接続先は spring.cloud.aws.region.static と spring.cloud.aws.secretsmanager.endpoint を使う。
+ */
+public class CachedSecretConfigDataLocationResolver
+        implements ConfigDataLocationResolver<CachedSecretConfigDataResource> {
+
+    static final String PREFIX = "cached-secret:";
+
+    private final Log log;
+
+    public CachedSecretConfigDataLocationResolver(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(CachedSecretConfigDataLocationResolver.class);
+    }
+
+    @Override
+    public boolean isResolvable(ConfigDataLocationResolverContext context, ConfigDataLocation location) {
+        return location.hasPrefix(PREFIX);
+    }
+
+    @Override
+    public List<CachedSecretConfigDataResource> resolve(ConfigDataLocationResolverContext context,
+                                                        ConfigDataLocation location) {
+        String value = location.getNonPrefixedValue(PREFIX);
+        int query = value.indexOf("?prefix=");
+        String secretId = query < 0 ? value : value.substring(0, query);
+        String prefix = query < 0 ? "" : value.substring(query + "?prefix=".length());
+
+        BootstrapRegistry registry = context.getBootstrapContext();
+        if (!registry.isRegistered(CachedSecretLoader.class)) {
+            CachedSecretLoader loader = createLoader(context.getBinder());
+            registry.register(CachedSecretLoader.class, BootstrapRegistry.InstanceSupplier.of(loader));
+            SecretCacheProperties cacheProperties = bindCacheProperties(context.getBinder());
+            registry.addCloseListener(event -> handOver(loader, cacheProperties, event.getApplicationContext()));
+        }
+        return List.of(new CachedSecretConfigDataResource(secretId, prefix, location.isOptional()));
+    }
+
+    private CachedSecretLoader createLoader(Binder binder) {
+        SecretSource source = new AwsSecretSource(
+                binder.bind("spring.cloud.aws.region.static", String.class).orElse(null),
+                binder.bind("spring.cloud.aws.secretsmanager.endpoint", String.class).orElse(null));
+        SecretCacheProperties properties = bindCacheProperties(binder);
+        EncryptedSecretCache cache = null;
+        if (properties.enabled()) {
+            if (properties.key() == null || properties.key().isBlank()) {
+                throw new IllegalStateException("app.secrets.cache.key is required when app.secrets.cache.enabled=true");
+            }
+            cache = new EncryptedSecretCache(properties.directory(), properties.key(), properties.ttl(),
+                    Clock.systemUTC());
+        }
+        return new CachedSecretLoader(source, cache, log);
+    }
+
+    private static SecretCacheProperties bindCacheProperties(Binder binder) {
+        return binder.bindOrCreate("app.secrets.cache", SecretCacheProperties.class);
+    }
+
+    /**
+     * ブートストラップ終了後、キャッシュ更新をアプリケーションコンテキストの寿命に合わせて動かす
+     */
+    private static void handOver(CachedSecretLoader loader, SecretCacheProperties properties,
+                                 ConfigurableApplicationContext applicationContext) {
+        if (!properties.enabled()) {
+            loader.close();
+            return;
+        }
+        loader.startRefreshing(properties.refreshInterval());
+        applicationContext.addApplicationListener(new LoaderCloser(loader));
+    }
+
+    /**
+     * コンテキスト終了時にキャッシュ更新を止める
+     */
+    private record LoaderCloser(CachedSecretLoader loader) implements ApplicationListener<ContextClosedEvent> {
+
+        @Override
+        public void onApplicationEvent(ContextClosedEvent event) {
+            loader.close();
+        }
+    }
+}
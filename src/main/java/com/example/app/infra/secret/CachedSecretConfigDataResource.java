@@ -0,0 +1,52 @@
+package com.example.app.infra.secret;
+
+import org.springframework.boot.context.config.ConfigDataResource;
+
+import java.util.Objects;
+
+/**
+ * cached-secret: で指定したシークレット
+ */
+public class CachedSecretConfigDataResource extends ConfigDataResource {
+
+    private final String secretId;
+    private final String prefix;
+
+    public CachedSecretConfigDataResource(String secretId, String prefix, boolean optional) {
+        super(optional);
+        this.secretId = secretId;
+        this.prefix = prefix;
+    }
+
+    public String getSecretId() {
+        return secretId;
+    }
+
+    /**
+     * プロパティ名の接頭辞（JSON のキーの前に付ける）
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CachedSecretConfigDataResource that)) {
+            return false;
+        }
+        return secretId.equals(that.secretId) && prefix.equals(that.prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(secretId, prefix);
+    }
+
+    @Override
+    public String toString() {
+        return "cached-secret:" + secretId;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.app.infra.secret;
+
+import org.apache.commons.logging.Log;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ローカルキャッシュ付きのシークレット読み込み
+ * <p>
+ * キャッシュが TTL 内であればリモートへ問い合わせずに返す。期限切れ・未作成の場合は取得してキャッシュを更新する。
+ * 取得に失敗した場合は、期限切れのキャッシュがあればそれで起動を続ける。
+ * 起動後は startRefreshing で読み込んだシークレットのキャッシュをバックグラウンドで更新し、次回起動に備える。
+ */
+public class CachedSecretLoader implements AutoCloseable {
+
+    private final SecretSource source;
+    private final EncryptedSecretCache cache;
+    private final Log log;
+    private final Set<String> loadedSecretIds = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService refresher;
+
+    /**
+     * @param cache キャッシュを使わない場合は null
+     */
+    public CachedSecretLoader(SecretSource source, EncryptedSecretCache cache, Log log) {
+        this.source = source;
+        this.cache = cache;
+        this.log = log;
+    }
+
+    /**
+     * シークレットを読み込む
+     */
+    public String load(String secretId) {
+        loadedSecretIds.add(secretId);
+        if (cache == null) {
+            return source.fetch(secretId);
+        }
+
+        Optional<EncryptedSecretCache.CachedSecret> cached = cache.read(secretId);
+        if (cached.isPresent() && !cached.get().expired()) {
+            log.debug("Loaded secret " + secretId + " from local cache");
+            return cached.get().value();
+        }
+        try {
+            return refresh(secretId);
+        } catch (RuntimeException e) {
+            if (cached.isEmpty()) {
+                throw e;
+            }
+            log.warn("Failed to fetch secret " + secretId + ", using cached value from "
+                    + cached.get().fetchedAt(), e);
+            return cached.get().value();
+        }
+    }
+
+    /**
+     * リモートから取得してキャッシュを更新
+     */
+    String refresh(String secretId) {
+        String value = source.fetch(secretId);
+        if (cache != null) {
+            try {
+                cache.write(secretId, value);
+            } catch (RuntimeException e) {
+                log.warn("Failed to write secret cache for " + secretId, e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 読み込んだシークレットのキャッシュ更新を開始（キャッシュ無効時は何もしない）
+     */
+    public synchronized void startRefreshing(Duration interval) {
+        if (cache == null || refresher != null) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("secret-cache-refresher").factory());
+        refresher.scheduleWithFixedDelay(this::refreshAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshAll() {
+        for (String secretId : loadedSecretIds) {
+            try {
+                refresh(secretId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh secret cache for " + secretId, e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+        if (source instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("Failed to close secret source", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.app.infra.secret;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * シークレットを AES-256-GCM で暗号化して保存するファイルキャッシュ
+ * <p>
+ * ファイル形式は [バージョン 1 バイト][IV 12 バイト][暗号文 + 認証タグ]。暗号文の中身は [取得時刻ミリ秒 8 バイト][シークレット UTF-8]。
+ * シークレット ID を追加認証データにするため、別のシークレットのファイルに差し替えられても復号に失敗する。
+ * 鍵が違う・改ざんされている・形式が古いファイルはキャッシュなしとして扱う。
+ */
+public class EncryptedSecretCache {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final int KEY_LENGTH = 32;
+
+    private final Path directory;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public EncryptedSecretCache(Path directory, String base64Key, Duration ttl, Clock clock) {
+        byte[] keyBytes = Base64.getDecoder().decode(base64Key);
+        if (keyBytes.length != KEY_LENGTH) {
+            throw new IllegalArgumentException("Secret cache key must be " + KEY_LENGTH + " bytes: " + keyBytes.length);
+        }
+        this.directory = directory;
+        this.key = new SecretKeySpec(keyBytes, "AES");
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * キャッシュ済みのシークレット
+     *
+     * @param value     シークレット文字列
+     * @param fetchedAt リモートから取得した時刻
+     * @param expired   TTL を過ぎているか
+     */
+    public record CachedSecret(String value, Instant fetchedAt, boolean expired) {
+    }
+
+    /**
+     * キャッシュを読み込む（期限切れでも返す）
+     */
+    public Optional<CachedSecret> read(String secretId) {
+        byte[] file;
+        try {
+            file = Files.readAllBytes(pathOf(secretId));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (file.length <= 1 + IV_LENGTH || file[0] != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, file, 1, IV_LENGTH));
+            cipher.updateAAD(secretId.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer plain = ByteBuffer.wrap(cipher.doFinal(file, 1 + IV_LENGTH, file.length - 1 - IV_LENGTH));
+            Instant fetchedAt = Instant.ofEpochMilli(plain.getLong());
+            String value = StandardCharsets.UTF_8.decode(plain).toString();
+            boolean expired = !clock.instant().isBefore(fetchedAt.plus(ttl));
+            return Optional.of(new CachedSecret(value, fetchedAt, expired));
+        } catch (AEADBadTagException e) {
+            return Optional.empty();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt secret cache", e);
+        }
+    }
+
+    /**
+     * シークレットを現在時刻で暗号化して保存
+     * <p>
+     * 一時ファイルに書いてから置き換えるため、読み込み側が書きかけのファイルを見ることはない。
+     */
+    public void write(String secretId, String value) {
+        byte[] secret = value.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        byte[] encrypted;
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            cipher.updateAAD(secretId.getBytes(StandardCharsets.UTF_8));
+            encrypted = cipher.doFinal(ByteBuffer.allocate(Long.BYTES + secret.length)
+                    .putLong(clock.millis())
+                    .put(secret)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt secret cache", e);
+        }
+        byte[] file = ByteBuffer.allocate(1 + IV_LENGTH + encrypted.length)
+                .put(FORMAT_VERSION)
+                .put(iv)
+                .put(encrypted)
+                .array();
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "secret", ".tmp");
+            try {
+                restrictToOwner(temp);
+                Files.write(temp, file);
+                moveAtomically(temp, pathOf(secretId));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(String secretId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secretId.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + ".secret");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void restrictToOwner(Path path) throws IOException {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // POSIX 以外のファイルシステムでは OS の既定権限に任せる
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.app.infra.secret;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * シークレットのローカルキャッシュ設定（app.secrets.cache）
+ * <p>
+ * 設定データの読み込み中に Binder で直接バインドするため、@ConfigurationProperties の Bean にはしない。
+ *
+ * @param enabled         ローカルキャッシュを使うか
+ * @param directory       暗号化したキャッシュファイルの保存先（未指定の場合は java.io.tmpdir/app-secret-cache）
+ * @param key             AES-256 鍵（Base64、32 バイト）
+ * @param ttl             リモート取得を省略できる期間
+ * @param refreshInterval 起動後にバックグラウンドでキャッシュを更新する間隔
+ */
+public record SecretCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        Path directory,
+        String key,
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("10m") Duration refreshInterval) {
+
+    public SecretCacheProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "app-secret-cache");
+        }
+    }
+}
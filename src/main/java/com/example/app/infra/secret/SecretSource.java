@@ -0,0 +1,15 @@
+package com.example.app.infra.secret;
+
+/**
+ * シークレットの取得元
+ */
+@FunctionalInterface
+public interface SecretSource {
+
+    /**
+     * シークレット文字列を取得
+     *
+     * @param secretId シークレット ID（名前または ARN）
+     */
+    String fetch(String secretId);
+}
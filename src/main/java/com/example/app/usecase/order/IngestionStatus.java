@@ -0,0 +1,10 @@
+package com.example.app.usecase.order;
+
+/**
+ * 非同期受付した注文の永続化状況
+ */
+public enum IngestionStatus {
+    QUEUED,     // 書き込み待ち
+    PERSISTED,  // 永続化済み
+    FAILED      // 永続化失敗
+}
@@ -0,0 +1,11 @@
+package com.example.app.usecase.order;
+
+/**
+ * ページングカーソルの形式が不正
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Invalid cursor: " + cursor, cause);
+    }
+}
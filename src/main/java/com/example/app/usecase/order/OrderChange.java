@@ -0,0 +1,19 @@
+package com.example.app.usecase.order;
+
+/**
+ * 注文の変更通知
+ *
+ * @param id      通知 ID（単調増加。SSE の Last-Event-ID として再開位置に使う）
+ * @param type    通知の種類
+ * @param payload ORDER_CREATED は Order、STATUS_CHANGED は OrderStatusChangedEvent
+ */
+public record OrderChange(long id, Type type, Object payload) {
+
+    /**
+     * 通知の種類
+     */
+    public enum Type {
+        ORDER_CREATED,
+        STATUS_CHANGED
+    }
+}
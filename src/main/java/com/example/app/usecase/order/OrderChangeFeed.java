@@ -0,0 +1,55 @@
+package com.example.app.usecase.order;
+
+import java.io.IOException;
+
+/**
+ * 注文の変更フィード
+ * <p>
+ * コミット済みの注文作成とステータス変更を購読者へ配信する。
+ */
+public interface OrderChangeFeed {
+
+    /**
+     * 購読を開始
+     *
+     * @param lastEventId 受信済みの最後の通知 ID（null の場合は購読開始後の変更のみ受け取る）
+     * @param subscriber  通知の受け取り先（例外を投げた場合は購読を解除する）
+     */
+    Subscription subscribe(Long lastEventId, Subscriber subscriber);
+
+    /**
+     * 通知の受け取り先
+     * <p>
+     * 1 つの購読者に対する呼び出しは同時に行われない。
+     */
+    interface Subscriber {
+
+        /**
+         * 変更通知
+         */
+        void onChange(OrderChange change) throws IOException;
+
+        /**
+         * 通知を取りこぼした（再開位置が保持範囲外、または受信が追いつかなかった）
+         * <p>
+         * 購読者は注文一覧を取得し直すこと。以降の通知は引き続き配信する。
+         */
+        void onMissed() throws IOException;
+
+        /**
+         * 接続維持用の定期通知
+         */
+        void onHeartbeat() throws IOException;
+    }
+
+    /**
+     * 購読
+     */
+    interface Subscription {
+
+        /**
+         * 購読を解除
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.app.usecase.order;
+
+import com.example.app.domain.order.Order;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 注文の変更バージョン
+ * <p>
+ * 注文が作成・変更・削除されるたびに変わる不透明な文字列。同じ値であれば前回から変更がないことを表すため、
+ * 注文を読み込まずに ETag として条件付き GET に使える。
+ * DB に保持するため、複数インスタンスやレプリカの間でも同じ状態には同じ値を返す。
+ */
+public interface OrderChangeVersions {
+
+    /**
+     * いずれかの注文が作成・変更・削除されると変わるバージョン
+     */
+    String current();
+
+    /**
+     * 指定した注文が変更されると変わるバージョン
+     *
+     * @return バージョン（注文が存在しない場合は空）
+     */
+    Optional<String> of(String orderNumber);
+
+    /**
+     * {@link #current()} と reader の結果を同じ読み取りで取得する（本文がバージョンより古くならない）
+     */
+    <T> Versioned<T> withVersion(Supplier<T> reader);
+
+    /**
+     * 注文から {@link #of(String)} と同じ値を求める
+     */
+    static String fromOrder(Order order) {
+        return Long.toString(order.version());
+    }
+
+    /**
+     * バージョンと、同じ時点で読んだ値
+     */
+    record Versioned<T>(String version, T value) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.usecase.order;
+
+import com.example.app.domain.order.Order;
+
+import java.util.Optional;
+
+/**
+ * 注文の非同期受付
+ * <p>
+ * 受け付けた注文は後から一括で永続化される。永続化状況は status で確認する。
+ */
+public interface OrderIngestor {
+
+    /**
+     * 注文を書き込みキューに追加
+     *
+     * @return キューが満杯または停止中で受け付けられない場合は false
+     */
+    boolean offer(Order order);
+
+    /**
+     * 注文番号の永続化状況を取得
+     *
+     * @return 受付履歴がなく永続化もされていない場合は空
+     */
+    Optional<IngestionStatus> status(String orderNumber);
+}
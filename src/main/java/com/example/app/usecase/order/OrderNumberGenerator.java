@@ -0,0 +1,12 @@
+package com.example.app.usecase.order;
+
+/**
+ * 注文番号ジェネレーター
+ */
+public interface OrderNumberGenerator {
+
+    /**
+     * 一意な注文番号を生成
+     */
+    String generate();
+}
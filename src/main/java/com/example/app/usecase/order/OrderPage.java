@@ -0,0 +1,14 @@
+package com.example.app.usecase.order;
+
+import com.example.app.domain.order.Order;
+
+import java.util.List;
+
+/**
+ * 注文一覧のページ
+ *
+ * @param orders     ページ内の注文（ID 昇順）
+ * @param nextCursor 次ページ取得用のカーソル（最終ページの場合は null）
+ */
+public record OrderPage(List<Order> orders, String nextCursor) {
+}
@@ -3,8 +3,12 @@ package com.example.app.usecase.order;
 import com.example.app.domain.order.Order;
 import com.example.app.domain.order.OrderStatus;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 注文リポジトリ
@@ -16,11 +20,46 @@ public interface OrderRepository {
      */
     List<Order> findAll();
 
+    /**
+     * 注文一覧をページ単位で取得（ID 昇順のキーセットページング）
+     *
+     * @param after 前ページの nextCursor（先頭ページの場合は null）
+     * @param limit 1 ページあたりの最大件数
+     * @throws InvalidCursorException カーソルの形式が不正な場合
+     */
+    OrderPage findPage(String after, int limit);
+
+    /**
+     * 作成日時が [from, to) の注文をページ単位で取得（ID 昇順のキーセットページング）
+     * <p>
+     * 作成日時は UUIDv7 の ID に埋め込まれたミリ秒で判定するため、主キーの範囲走査となり created_at の索引は不要。
+     * UUIDv7 で表現できない時刻（1970 年より前など）は表現できる範囲に切り詰める。
+     *
+     * @param after 前ページの nextCursor（先頭ページの場合は null）
+     * @param limit 1 ページあたりの最大件数
+     * @throws InvalidCursorException カーソルの形式が不正な場合
+     */
+    OrderPage findCreatedBetween(Instant from, Instant to, String after, int limit);
+
+    /**
+     * 全注文を ID 昇順で 1 件ずつ consumer に渡す
+     * <p>
+     * 全件をリストに保持しないため、件数に関わらずヒープ使用量は一定となる。
+     */
+    void exportAll(Consumer<Order> consumer);
+
     /**
      * 注文番号で検索
      */
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    /**
+     * 複数の注文番号で 1 回に検索
+     *
+     * @return 指定した順の注文（存在しない注文番号は含まず、重複した注文番号は 1 件にまとめる）
+     */
+    List<Order> findByOrderNumbers(Collection<String> orderNumbers);
+
     /**
      * ステータスで検索
      */
@@ -31,13 +70,45 @@ public interface OrderRepository {
      */
     List<Order> findByCustomerNameContaining(String customerName);
 
+    /**
+     * 顧客名で検索（部分一致、ID 昇順で最大 limit 件）
+     */
+    List<Order> findByCustomerNameContaining(String customerName, int limit);
+
     /**
      * 注文を保存
      */
     Order save(Order order);
 
+    /**
+     * 複数の注文を 1 トランザクションでまとめて保存
+     */
+    List<Order> saveAll(List<Order> orders);
+
+    /**
+     * 注文のステータスを変更
+     * <p>
+     * 現在のステータスから target へ遷移できる場合のみ、読み込みを伴わない 1 回の条件付き更新で変更する。
+     *
+     * @param expectedVersion 指定した場合は現在のバージョンが一致するときだけ変更する（null の場合は確認しない）
+     * @return 変更した場合は true（注文がない・遷移できない・バージョン不一致の場合は false）
+     */
+    boolean transitionStatus(String orderNumber, OrderStatus target, Long expectedVersion);
+
+    /**
+     * createdBefore より前に作成された source の注文をすべて target へ変更
+     * <p>
+     * ID 順のチャンクごとにコミットするため、行ロックを長時間保持しない。
+     *
+     * @return 変更件数
+     * @throws IllegalArgumentException source から target へ遷移できない場合
+     */
+    int transitionStatus(OrderStatus source, OrderStatus target, LocalDateTime createdBefore);
+
     /**
      * 全削除
+     * <p>
+     * 一定件数ごとにコミットするため、途中で失敗した場合は一部の注文だけが削除された状態になる。
      */
     void deleteAll();
 }
@@ -0,0 +1,14 @@
+package com.example.app.usecase.order;
+
+import java.util.List;
+
+/**
+ * 注文の集計
+ */
+public interface OrderStatistics {
+
+    /**
+     * 全ステータスの件数と合計金額を OrderStatus の定義順で取得
+     */
+    List<OrderStatusSummary> summarizeByStatus();
+}
@@ -0,0 +1,14 @@
+package com.example.app.usecase.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.OrderStatus;
+
+/**
+ * ステータス別の注文集計
+ *
+ * @param status      注文ステータス
+ * @param count       件数
+ * @param totalAmount 合計金額
+ */
+public record OrderStatusSummary(OrderStatus status, long count, Money totalAmount) {
+}
@@ -0,0 +1,106 @@
+package com.example.app.controller.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.usecase.order.IngestionStatus;
+import com.example.app.usecase.order.OrderIngestor;
+import com.example.app.usecase.order.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static com.example.app.controller.order.OrderController.API_PATH;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 非同期受付（OrderIngestor あり）の OrderController テスト
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderControllerIngestionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private OrderIngestor orderIngestor;
+
+    private final CreateOrderRequest request = CreateOrderRequest.builder()
+            .customerName("非同期太郎")
+            .totalAmount(Money.parse("1200.00"))
+            .build();
+
+    @Test
+    void testCreateOrder_Accepted() throws Exception {
+        // Given
+        when(orderIngestor.offer(any(Order.class))).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(post(API_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/ingestion")))
+                .andExpect(jsonPath("$.orderNumber").value(startsWith("ORD-")))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void testCreateOrder_QueueFull() throws Exception {
+        // Given
+        when(orderIngestor.offer(any(Order.class))).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(post(API_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void testGetIngestionStatus() throws Exception {
+        // Given
+        when(orderIngestor.status("ORD-001")).thenReturn(Optional.of(IngestionStatus.PERSISTED));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/ORD-001/ingestion"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderNumber").value("ORD-001"))
+                .andExpect(jsonPath("$.status").value("PERSISTED"));
+    }
+
+    @Test
+    void testGetIngestionStatus_Unknown() throws Exception {
+        // Given
+        when(orderIngestor.status("ORD-404")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/ORD-404/ingestion"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,31 +1,64 @@
 package com.example.app.controller.order;
 
+import com.example.app.domain.common.Money;
 import com.example.app.domain.order.Order;
 import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.InvalidCursorException;
+import com.example.app.usecase.order.OrderChange;
+import com.example.app.usecase.order.OrderChangeFeed;
+import com.example.app.usecase.order.OrderChangeVersions;
+import com.example.app.usecase.order.OrderPage;
 import com.example.app.usecase.order.OrderRepository;
+import com.example.app.usecase.order.OrderStatistics;
+import com.example.app.usecase.order.OrderStatusSummary;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
-import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.example.app.controller.order.OrderController.API_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -41,6 +74,21 @@ class OrderControllerTest {
     @MockitoBean
     private OrderRepository orderRepository;
 
+    @MockitoBean
+    private OrderStatistics orderStatistics;
+
+    @MockitoBean
+    private OrderChangeFeed orderChangeFeed;
+
+    @MockitoBean
+    private OrderChangeVersions orderChangeVersions;
+
+    @BeforeEach
+    void setUp() {
+        when(orderChangeVersions.withVersion(any())).thenAnswer(invocation ->
+                new OrderChangeVersions.Versioned<>("1", invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
     @Test
     void testGetAllOrders_Empty() throws Exception {
         // Given
@@ -59,13 +107,13 @@ class OrderControllerTest {
         Order order1 = new Order(
                 "ORD-001",
                 "テストユーザー",
-                10000.00,
+                Money.parse("10000.00"),
                 OrderStatus.PENDING
         );
         Order order2 = new Order(
                 "ORD-002",
                 "別のユーザー",
-                5000.00,
+                Money.parse("5000.00"),
                 OrderStatus.CONFIRMED
         );
 
@@ -89,7 +137,7 @@ class OrderControllerTest {
         Order order = new Order(
                 "ORD-001",
                 "取得テスト",
-                5000.00,
+                Money.parse("5000.00"),
                 OrderStatus.CONFIRMED
         );
 
@@ -104,6 +152,120 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value("CONFIRMED"));
     }
 
+    @Test
+    void testGetAllOrders_NotModified() throws Exception {
+        // Given
+        when(orderRepository.findAll()).thenReturn(Collections.emptyList());
+        when(orderChangeVersions.current()).thenReturn("1");
+        String eTag = mockMvc.perform(get(API_PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get(API_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(orderRepository, times(1)).findAll();
+        verify(orderChangeVersions, times(1)).current();
+    }
+
+    @Test
+    void testGetOrderByOrderNumber_NotModified() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "版数太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(order));
+        when(orderChangeVersions.of("ORD-001")).thenReturn(Optional.of(OrderChangeVersions.fromOrder(order)));
+        String eTag = mockMvc.perform(get(API_PATH + "/ORD-001"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/ORD-001").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(API_PATH + "/ORD-001").header(HttpHeaders.IF_NONE_MATCH, "W/\"stale\""))
+                .andExpect(status().isOk());
+        verify(orderRepository, times(2)).findByOrderNumber("ORD-001");
+        verify(orderChangeVersions, times(2)).of("ORD-001");
+    }
+
+    @Test
+    void testGetOrderByOrderNumber_ETagDependsOnMediaType() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "版数太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(order));
+        when(orderChangeVersions.of("ORD-001")).thenReturn(Optional.of(OrderChangeVersions.fromOrder(order)));
+        String jsonETag = mockMvc.perform(get(API_PATH + "/ORD-001").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: JSON の ETag で CBOR を要求しても 304 にしない
+        String cborETag = mockMvc.perform(get(API_PATH + "/ORD-001").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(cborETag).isNotEqualTo(jsonETag);
+        mockMvc.perform(get(API_PATH + "/ORD-001").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void testGetOrderByOrderNumber_ETagFollowsSelectedConverter() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "版数太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(order));
+        when(orderChangeVersions.of("ORD-001")).thenReturn(Optional.of(OrderChangeVersions.fromOrder(order)));
+
+        // When & Then: 品質値が同じ場合はより具体的な形式が選ばれる
+        mockMvc.perform(get(API_PATH + "/ORD-001").header(HttpHeaders.ACCEPT, "*/*, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"0:cbor\""));
+        // 書き出せない形式では 304 にせず 406 を返す
+        mockMvc.perform(get(API_PATH + "/ORD-001").accept(MediaType.APPLICATION_XML)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"0:json\""))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void testGetOrderByOrderNumber_Cbor() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "バイナリ太郎", Money.parse("1234.50"), OrderStatus.PENDING);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(order));
+
+        // When
+        byte[] body = mockMvc.perform(get(API_PATH + "/ORD-001").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode decoded = new CBORMapper().readTree(body);
+        assertThat(decoded.get("orderNumber").asText()).isEqualTo("ORD-001");
+        assertThat(decoded.get("totalAmount").decimalValue()).isEqualByComparingTo("1234.50");
+    }
+
+    @Test
+    void testGetAllOrders_Smile() throws Exception {
+        // Given
+        when(orderRepository.findAll()).thenReturn(List.of(
+                new Order("ORD-001", "バイナリ太郎", Money.parse("1000.00"), OrderStatus.PENDING)));
+
+        // When
+        byte[] body = mockMvc.perform(get(API_PATH).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode decoded = new SmileMapper().readTree(body);
+        assertThat(decoded.get(0).get("customerName").asText()).isEqualTo("バイナリ太郎");
+    }
+
     @Test
     void testGetOrderByOrderNumber_NotFound() throws Exception {
         // Given
@@ -119,13 +281,13 @@ class OrderControllerTest {
         // Given
         CreateOrderRequest request = CreateOrderRequest.builder()
                 .customerName("新規顧客")
-                .totalAmount(new BigDecimal("15000.00"))
+                .totalAmount(Money.parse("15000.00"))
                 .build();
 
         Order savedOrder = new Order(
                 "ORD-20251220-0001",
                 "新規顧客",
-                15000.00,
+                Money.parse("15000.00"),
                 OrderStatus.PENDING
         );
 
@@ -141,4 +303,314 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.totalAmount").value(15000.00))
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
+
+    @Test
+    void testGetOrderPage() throws Exception {
+        // Given
+        Order order = new Order(
+                "ORD-001",
+                "ページユーザー",
+                Money.parse("1000.00"),
+                OrderStatus.PENDING
+        );
+        when(orderRepository.findPage(eq("cursor-1"), eq(1)))
+                .thenReturn(new OrderPage(List.of(order), "cursor-2"));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH).param("limit", "1").param("after", "cursor-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].orderNumber").value("ORD-001"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"));
+    }
+
+    @Test
+    void testGetOrderPage_InvalidLimit() throws Exception {
+        mockMvc.perform(get(API_PATH).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(API_PATH).param("limit", String.valueOf(OrderController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetOrderPage_InvalidCursor() throws Exception {
+        // Given
+        when(orderRepository.findPage(any(), anyInt()))
+                .thenThrow(new InvalidCursorException("broken", new IllegalArgumentException()));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH).param("limit", "10").param("after", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportOrders() throws Exception {
+        // Given
+        Order order1 = new Order("ORD-001", "出力ユーザー", Money.parse("1000.00"), OrderStatus.PENDING);
+        Order order2 = new Order("ORD-002", "出力ユーザー", Money.parse("2000.00"), OrderStatus.SHIPPED);
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(0);
+            consumer.accept(order1);
+            consumer.accept(order2);
+            return null;
+        }).when(orderRepository).exportAll(any(Consumer.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get(API_PATH + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String expected = objectMapper.writeValueAsString(order1) + "\n"
+                + objectMapper.writeValueAsString(order2) + "\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+    }
+
+    @Test
+    void testCreateOrders() throws Exception {
+        // Given
+        List<CreateOrderRequest> requests = List.of(
+                CreateOrderRequest.builder().customerName("一括顧客1").totalAmount(Money.parse("100.00")).build(),
+                CreateOrderRequest.builder().customerName("一括顧客2").totalAmount(Money.parse("200.00")).build()
+        );
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When & Then
+        mockMvc.perform(post(API_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].orderNumber").value(startsWith("ORD-")))
+                .andExpect(jsonPath("$[1].customerName").value("一括顧客2"))
+                .andExpect(jsonPath("$[1].status").value("PENDING"));
+    }
+
+    @Test
+    void testCreateOrder_TotalAmountFormat() throws Exception {
+        // Given
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When & Then
+        mockMvc.perform(post(API_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerName\":\"金額顧客\",\"totalAmount\":1234.5}"))
+                .andExpect(status().isCreated())
+                .andExpect(content().string(containsString("\"totalAmount\":1234.50")));
+    }
+
+    @Test
+    void testCreateOrder_TooManyFractionDigits() throws Exception {
+        mockMvc.perform(post(API_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerName\":\"金額顧客\",\"totalAmount\":0.001}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCreateOrders_Empty() throws Exception {
+        mockMvc.perform(post(API_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetOrdersByOrderNumbers() throws Exception {
+        // Given
+        Order order1 = new Order("ORD-001", "一括太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        Order order3 = new Order("ORD-003", "一括三郎", Money.parse("3000.00"), OrderStatus.CONFIRMED);
+        when(orderRepository.findByOrderNumbers(List.of("ORD-003", "ORD-002", "ORD-001")))
+                .thenReturn(List.of(order3, order1));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH).param("numbers", "ORD-003,ORD-002,ORD-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].orderNumber").value("ORD-003"))
+                .andExpect(jsonPath("$[1].orderNumber").value("ORD-001"));
+    }
+
+    @Test
+    void testGetOrdersByOrderNumbers_TooMany() throws Exception {
+        // Given
+        String numbers = String.join(",", Collections.nCopies(OrderController.MAX_PAGE_SIZE + 1, "ORD-001"));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH).param("numbers", numbers))
+                .andExpect(status().isBadRequest());
+        verify(orderRepository, times(0)).findByOrderNumbers(anyList());
+    }
+
+    @Test
+    void testGetOrdersCreatedBetween() throws Exception {
+        // Given
+        Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        Instant to = Instant.parse("2026-01-02T00:00:00Z");
+        Order order = new Order("ORD-001", "期間太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        when(orderRepository.findCreatedBetween(from, to, null, 50))
+                .thenReturn(new OrderPage(List.of(order), "next"));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH)
+                        .param("createdFrom", "2026-01-01T00:00:00Z")
+                        .param("createdTo", "2026-01-02T00:00:00Z")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetOrdersCreatedBetween_InvalidRange() throws Exception {
+        mockMvc.perform(get(API_PATH)
+                        .param("createdFrom", "2026-01-02T00:00:00Z")
+                        .param("createdTo", "2026-01-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchOrders() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "山田太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        when(orderRepository.findByCustomerNameContaining("田太", OrderController.DEFAULT_SEARCH_LIMIT))
+                .thenReturn(List.of(order));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/search").param("customerName", "田太"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].customerName").value("山田太郎"));
+    }
+
+    @Test
+    void testSearchOrders_InvalidLimit() throws Exception {
+        mockMvc.perform(get(API_PATH + "/search").param("customerName", "田").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetOrderStats() throws Exception {
+        // Given
+        when(orderStatistics.summarizeByStatus()).thenReturn(List.of(
+                new OrderStatusSummary(OrderStatus.PENDING, 2, Money.parse("1500.50")),
+                new OrderStatusSummary(OrderStatus.CONFIRMED, 0, Money.parse("0.00"))
+        ));
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].totalAmount").value(1500.50));
+    }
+
+    @Test
+    void testGetIngestionStatus_SyncMode() throws Exception {
+        mockMvc.perform(get(API_PATH + "/ORD-001/ingestion"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTransitionStatus() throws Exception {
+        // Given
+        when(orderRepository.transitionStatus("ORD-001", OrderStatus.CONFIRMED, 0L)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(put(API_PATH + "/ORD-001/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONFIRMED\",\"version\":0}"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void testTransitionStatus_Conflict() throws Exception {
+        // Given
+        when(orderRepository.transitionStatus("ORD-001", OrderStatus.CONFIRMED, 0L)).thenReturn(false);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(
+                new Order("ORD-001", "競合太郎", Money.parse("1000.00"), OrderStatus.CANCELLED, 1L)));
+
+        // When & Then
+        mockMvc.perform(put(API_PATH + "/ORD-001/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONFIRMED\",\"version\":0}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void testTransitionStatus_NotFound() throws Exception {
+        // Given
+        when(orderRepository.transitionStatus("NOT-EXIST", OrderStatus.CONFIRMED, null)).thenReturn(false);
+        when(orderRepository.findByOrderNumber("NOT-EXIST")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(put(API_PATH + "/NOT-EXIST/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONFIRMED\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTransitionStatuses() throws Exception {
+        // Given
+        LocalDateTime createdBefore = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(orderRepository.transitionStatus(OrderStatus.PENDING, OrderStatus.CONFIRMED, createdBefore))
+                .thenReturn(42);
+
+        // When & Then
+        mockMvc.perform(post(API_PATH + "/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"PENDING\",\"to\":\"CONFIRMED\",\"createdBefore\":\"2026-01-01T00:00:00\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(42));
+    }
+
+    @Test
+    void testTransitionStatuses_IllegalTransition() throws Exception {
+        // When & Then
+        mockMvc.perform(post(API_PATH + "/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"COMPLETED\",\"to\":\"PENDING\",\"createdBefore\":\"2026-01-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest());
+        verify(orderRepository, times(0)).transitionStatus(any(OrderStatus.class), any(), any());
+    }
+
+    @Test
+    void testUnexpectedIllegalArgumentIsNotBadRequest() {
+        // Given
+        when(orderRepository.findPage(any(), anyInt())).thenThrow(new IllegalArgumentException("bug"));
+
+        // When & Then
+        // 400 に変換せず、サーバーエラーとして伝播する
+        assertThatThrownBy(() -> mockMvc.perform(get(API_PATH).param("limit", "10")))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testStreamChanges() throws Exception {
+        // Given
+        Order order = new Order("ORD-001", "配信太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+        doAnswer(invocation -> {
+            OrderChangeFeed.Subscriber subscriber = invocation.getArgument(1);
+            subscriber.onMissed();
+            subscriber.onChange(new OrderChange(42, OrderChange.Type.ORDER_CREATED, order));
+            return (OrderChangeFeed.Subscription) () -> {
+            };
+        }).when(orderChangeFeed).subscribe(eq(41L), any());
+
+        // When & Then
+        mockMvc.perform(get(API_PATH + "/changes")
+                        .header("Last-Event-ID", "41")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().string(containsString("event:reset")))
+                .andExpect(content().string(containsString("id:42\nevent:order-created\ndata:{\"orderNumber\":\"ORD-001\"")));
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.app.controller.order;
+
+import com.example.app.controller.common.MoneyJsonComponent;
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderJsonComponentTest {
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(MoneyJsonComponent.module())
+            .build();
+    private final ObjectMapper sut = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(MoneyJsonComponent.module(), OrderJsonComponent.module())
+            .build();
+
+    @Test
+    void testSerializeMatchesReflectiveOutput() throws Exception {
+        // Given
+        List<Order> orders = List.of(
+                new Order("ORD-001", "山田\"太郎\"", Money.parse("1234.50"), OrderStatus.SHIPPED, 3),
+                new Order("ORD-002", null, null, null));
+
+        // When
+        String json = sut.writeValueAsString(orders);
+
+        // Then
+        assertThat(sut.readTree(json)).isEqualTo(reflective.readTree(reflective.writeValueAsString(orders)));
+        assertThat(json).contains("\"totalAmount\":1234.50");
+    }
+
+    @Test
+    void testCborRoundTripKeepsDecimalAmount() throws Exception {
+        // Given
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .modulesToInstall(MoneyJsonComponent.module(), OrderJsonComponent.module())
+                .build();
+        Order order = new Order("ORD-001", "山田太郎", Money.parse("1234.50"), OrderStatus.PENDING, 1);
+
+        // When
+        byte[] bytes = cbor.writeValueAsBytes(order);
+        CborOrder decoded = cbor.readValue(bytes, CborOrder.class);
+
+        // Then
+        assertThat(bytes.length).isLessThan(sut.writeValueAsBytes(order).length);
+        assertThat(decoded.totalAmount()).isEqualTo(Money.parse("1234.50"));
+        assertThat(decoded.status()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    /**
+     * 読み込み確認用（Order はデシリアライザーを登録していないため）
+     */
+    record CborOrder(String orderNumber, String customerName, Money totalAmount, OrderStatus status, long version) {
+    }
+}
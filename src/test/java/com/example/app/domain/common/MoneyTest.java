@@ -0,0 +1,56 @@
+package com.example.app.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void testParse() {
+        // When & Then
+        assertThat(Money.parse("1234.56")).isEqualTo(Money.ofMinor(123456));
+        assertThat(Money.parse("1234.5")).isEqualTo(Money.ofMinor(123450));
+        assertThat(Money.parse("1234")).isEqualTo(Money.ofMinor(123400));
+        assertThat(Money.parse("-0.05")).isEqualTo(Money.ofMinor(-5));
+        assertThat(Money.parse(".5")).isEqualTo(Money.ofMinor(50));
+        assertThat(Money.parse("10.5000")).isEqualTo(Money.ofMinor(1050));
+        assertThat(Money.parse("1.2345E3")).isEqualTo(Money.ofMinor(123450));
+    }
+
+    @Test
+    void testParse_Invalid() {
+        // When & Then
+        assertThatThrownBy(() -> Money.parse("")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("-")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1.2.3")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("0.001")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1E-3")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void testToString() {
+        // When & Then
+        assertThat(Money.ofMinor(123450)).hasToString("1234.50");
+        assertThat(Money.ofMinor(5)).hasToString("0.05");
+        assertThat(Money.ofMinor(-5)).hasToString("-0.05");
+        assertThat(Money.ZERO).hasToString("0.00");
+    }
+
+    @Test
+    void testBigDecimalConversion() {
+        // When & Then
+        assertThat(Money.of(new BigDecimal("99999999.99")).toBigDecimal()).isEqualTo(new BigDecimal("99999999.99"));
+        assertThat(Money.of(new BigDecimal("1.5")).minorUnits()).isEqualTo(150);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void testPlus() {
+        // When & Then
+        assertThat(Money.parse("0.10").plus(Money.parse("0.20"))).isEqualTo(Money.parse("0.30"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.app.domain.order;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusTest {
+
+    @Test
+    void testCanTransitionTo() {
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.CONFIRMED)).isTrue();
+        assertThat(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CANCELLED)).isTrue();
+        assertThat(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.COMPLETED)).isFalse();
+        assertThat(OrderStatus.COMPLETED.canTransitionTo(OrderStatus.PENDING)).isFalse();
+    }
+
+    @Test
+    void testSources() {
+        assertThat(OrderStatus.CANCELLED.sources()).containsExactlyInAnyOrder(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+        assertThat(OrderStatus.COMPLETED.sources()).containsExactly(OrderStatus.SHIPPED);
+        assertThat(OrderStatus.PENDING.sources()).isEmpty();
+    }
+}
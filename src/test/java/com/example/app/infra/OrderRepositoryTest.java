@@ -1,28 +1,54 @@
 package com.example.app.infra;
 
+import com.example.app.domain.common.Money;
 import com.example.app.domain.order.Order;
 import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrdersArchivedEvent;
+import com.example.app.infra.common.UuidBytes;
 import com.example.app.infra.order.OrderJpaRepository;
+import com.example.app.infra.order.OrderArchiver;
+import com.example.app.infra.order.OrderChangeVersionRepository;
+import com.example.app.infra.order.OrderLookupCoalescer;
 import com.example.app.infra.order.OrderMapper;
+import com.example.app.infra.order.OrderNameIndex;
+import com.example.app.infra.order.OrderPurger;
+import com.example.app.infra.order.OrderReadRepository;
 import com.example.app.infra.order.OrderRepositoryImpl;
+import com.example.app.infra.order.OrderStatusUpdater;
 import com.example.app.infra.order.OrderTable;
+import com.example.app.usecase.order.InvalidCursorException;
+import com.example.app.usecase.order.OrderPage;
 import com.example.app.usecase.order.OrderRepository;
+import com.example.app.usecase.order.OrderStatusSummary;
+import com.fasterxml.uuid.UUIDComparator;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
-@Import({OrderRepositoryImpl.class, OrderMapper.class})
+@Import({OrderRepositoryImpl.class, OrderMapper.class, OrderNameIndex.class, OrderReadRepository.class,
+        OrderLookupCoalescer.class, OrderStatusUpdater.class, OrderPurger.class,
+        OrderChangeVersionRepository.class})
 class OrderRepositoryTest {
 
     // テスト用固定 UUID（UUIDv7 形式）
@@ -44,11 +70,34 @@ class OrderRepositoryTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private OrderNameIndex orderNameIndex;
+
+    @Autowired
+    private OrderReadRepository orderReadRepository;
+
+    @Autowired
+    private OrderLookupCoalescer orderLookupCoalescer;
+
+    @Autowired
+    private OrderStatusUpdater orderStatusUpdater;
+
+    @Autowired
+    private OrderPurger orderPurger;
+
+    @Autowired
+    private OrderChangeVersionRepository orderChangeVersionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private OrderRepository sut;
 
     @BeforeEach
     void setUp() {
-        sut = new OrderRepositoryImpl(orderJpaRepository, orderMapper);
+        sut = new OrderRepositoryImpl(orderJpaRepository, orderMapper, entityManager, orderNameIndex,
+                orderReadRepository, orderLookupCoalescer, orderStatusUpdater, orderPurger,
+                orderChangeVersionRepository, eventPublisher);
         orderJpaRepository.deleteAll();
         entityManager.flush();
         entityManager.clear();
@@ -56,7 +105,7 @@ class OrderRepositoryTest {
 
     /**
      * 固定 UUID でテストデータを挿入するヘルパーメソッド
-     * Native SQL を使用して @UuidGenerator をバイパス
+     * Native SQL を使用して @UuidGenerator をバイパスし、顧客名インデックスにも登録する
      */
     private void insertOrderWithFixedId(UUID id, String orderNumber, String customerName,
                                         BigDecimal totalAmount, OrderStatus status) {
@@ -69,6 +118,7 @@ class OrderRepositoryTest {
                 .setParameter("totalAmount", totalAmount)
                 .setParameter("status", status.name())
                 .executeUpdate();
+        orderNameIndex.index(id, customerName);
         entityManager.flush();
         entityManager.clear();
     }
@@ -79,7 +129,7 @@ class OrderRepositoryTest {
         Order order = new Order(
                 "TEST-001",
                 "テスト太郎",
-                10000.00,
+                Money.parse("10000.00"),
                 OrderStatus.PENDING
         );
 
@@ -89,7 +139,7 @@ class OrderRepositoryTest {
         // Then
         assertThat(savedOrder.orderNumber()).isEqualTo("TEST-001");
         assertThat(savedOrder.customerName()).isEqualTo("テスト太郎");
-        assertThat(savedOrder.totalAmount()).isEqualTo(10000.00);
+        assertThat(savedOrder.totalAmount()).isEqualTo(Money.parse("10000.00"));
         assertThat(savedOrder.status()).isEqualTo(OrderStatus.PENDING);
     }
 
@@ -116,6 +166,21 @@ class OrderRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    void testFindByOrderNumbers() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "一括一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "一括二郎",
+                new BigDecimal("2000.00"), OrderStatus.CONFIRMED);
+
+        // When
+        List<Order> found = sut.findByOrderNumbers(List.of("TEST-002", "NOT-EXIST", "TEST-001", "TEST-002"));
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-002", "TEST-001");
+    }
+
     @Test
     void testFindByStatus() {
         // Given
@@ -162,4 +227,493 @@ class OrderRepositoryTest {
         // Then
         assertThat(allOrders).hasSize(2);
     }
+
+    @Test
+    void testFindPage() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "ページ三郎",
+                new BigDecimal("3000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "ページ一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "ページ二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+
+        // When
+        OrderPage first = sut.findPage(null, 2);
+        OrderPage second = sut.findPage(first.nextCursor(), 2);
+
+        // Then
+        assertThat(first.orders()).extracting(Order::orderNumber).containsExactly("TEST-001", "TEST-002");
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.orders()).extracting(Order::orderNumber).containsExactly("TEST-003");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void testFindPage_UnsignedOrder() {
+        // Given
+        // 最上位ビットが 1 の ID は UUID.compareTo では先頭に来るが、BINARY(16) とカーソルでは末尾に来る
+        UUID highBit = UUID.fromString("f0000000-0000-7000-8000-000000000001");
+        insertOrderWithFixedId(highBit, "TEST-002", "ページ二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "ページ一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        OrderPage first = sut.findPage(null, 1);
+        OrderPage second = sut.findPage(first.nextCursor(), 1);
+
+        // Then
+        assertThat(highBit.compareTo(TEST_UUID_1)).isNegative();
+        assertThat(first.orders()).extracting(Order::orderNumber).containsExactly("TEST-001");
+        assertThat(second.orders()).extracting(Order::orderNumber).containsExactly("TEST-002");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void testFindPage_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> sut.findPage("not*base64", 10)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> sut.findPage("AAAA", 10)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void testFindPage_ExactlyLimit() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "ページ一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        OrderPage page = sut.findPage(null, 1);
+
+        // Then
+        assertThat(page.orders()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testExportAll() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "出力二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "出力一郎",
+                new BigDecimal("1000.00"), OrderStatus.COMPLETED);
+
+        // When
+        List<Order> exported = new ArrayList<>();
+        sut.exportAll(exported::add);
+
+        // Then
+        assertThat(exported).extracting(Order::orderNumber).containsExactly("TEST-001", "TEST-002");
+    }
+
+    @Test
+    void testSaveAll() {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            orders.add(new Order("BATCH-" + i, "一括太郎", Money.ofMinor(10_000 + i * 100L), OrderStatus.PENDING));
+        }
+
+        // When
+        List<Order> savedOrders = sut.saveAll(orders);
+
+        // Then
+        assertThat(savedOrders).hasSize(1200);
+        assertThat(savedOrders.get(1199).orderNumber()).isEqualTo("BATCH-1199");
+        assertThat(orderJpaRepository.count()).isEqualTo(1200);
+    }
+
+    @Test
+    void testFindByCustomerNameContaining_MiddleOfName() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "山田太郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "太田花子",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("田太");
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-001");
+    }
+
+    @Test
+    void testFindByCustomerNameContaining_SingleCharacter() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "山田太郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "佐藤次郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "鈴木花子",
+                new BigDecimal("3000.00"), OrderStatus.PENDING);
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("郎");
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-001", "TEST-002");
+    }
+
+    @Test
+    void testFindByCustomerNameContaining_ExcludesNGramFalsePositive() {
+        // Given: 「山田」「田太」の 2-gram をどちらも含むが「山田太」は含まない
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "山田田太",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "山田太一",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("山田太");
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-002");
+    }
+
+    @Test
+    void testFindByCustomerNameContaining_NormalizesWidthAndCase() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "ＪＯＨＮ Smith",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("john s");
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-001");
+    }
+
+    @Test
+    void testFindByCustomerNameContaining_WithLimit() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "山田三郎",
+                new BigDecimal("3000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "山田一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "山田二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("山田", 2);
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-001", "TEST-002");
+    }
+
+    @Test
+    void testSave_IndexesCustomerName() {
+        // Given
+        sut.save(new Order("TEST-001", "高橋美咲", Money.parse("1000.00"), OrderStatus.PENDING));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Order> found = sut.findByCustomerNameContaining("橋美");
+
+        // Then
+        assertThat(found).extracting(Order::orderNumber).containsExactly("TEST-001");
+    }
+
+    @Test
+    void testSave_TotalAmountRoundTrip() {
+        // Given
+        sut.save(new Order("TEST-001", "金額太郎", Money.parse("12345678.05"), OrderStatus.PENDING));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<Order> found = sut.findByOrderNumber("TEST-001");
+
+        // Then
+        assertThat(found).map(Order::totalAmount).contains(Money.ofMinor(1_234_567_805L));
+    }
+
+    @Test
+    void testFindByStatus_MapsAllColumns() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "読取二郎",
+                new BigDecimal("2500.50"), OrderStatus.SHIPPED);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "読取一郎",
+                new BigDecimal("1500.25"), OrderStatus.SHIPPED);
+
+        // When
+        List<Order> shipped = sut.findByStatus(OrderStatus.SHIPPED);
+
+        // Then
+        assertThat(shipped).containsExactly(
+                new Order("TEST-001", "読取一郎", Money.parse("1500.25"), OrderStatus.SHIPPED),
+                new Order("TEST-002", "読取二郎", Money.parse("2500.50"), OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void testSummarizeByStatus() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "集計一郎",
+                new BigDecimal("1000.10"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "集計二郎",
+                new BigDecimal("2000.20"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "集計三郎",
+                new BigDecimal("500.00"), OrderStatus.CANCELLED);
+
+        // When
+        List<OrderStatusSummary> summaries = orderReadRepository.summarizeByStatus();
+
+        // Then
+        assertThat(summaries)
+                .extracting(OrderStatusSummary::status, OrderStatusSummary::count, OrderStatusSummary::totalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(OrderStatus.PENDING, 2L, Money.parse("3000.30")),
+                        tuple(OrderStatus.CANCELLED, 1L, Money.parse("500.00")));
+    }
+
+    @Test
+    void testTransitionStatus() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "遷移一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        boolean updated = sut.transitionStatus("TEST-001", OrderStatus.CONFIRMED, 0L);
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isTrue();
+        assertThat(sut.findByOrderNumber("TEST-001"))
+                .map(order -> tuple(order.status(), order.version()))
+                .contains(tuple(OrderStatus.CONFIRMED, 1L));
+    }
+
+    @Test
+    void testTransitionStatus_Rejected() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "遷移一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        boolean illegal = sut.transitionStatus("TEST-001", OrderStatus.COMPLETED, null);
+        boolean staleVersion = sut.transitionStatus("TEST-001", OrderStatus.CONFIRMED, 3L);
+        boolean notFound = sut.transitionStatus("NOT-EXIST", OrderStatus.CONFIRMED, null);
+        entityManager.clear();
+
+        // Then
+        assertThat(illegal).isFalse();
+        assertThat(staleVersion).isFalse();
+        assertThat(notFound).isFalse();
+        assertThat(sut.findByOrderNumber("TEST-001"))
+                .map(order -> tuple(order.status(), order.version()))
+                .contains(tuple(OrderStatus.PENDING, 0L));
+    }
+
+    @Test
+    void testWritesBumpChangeVersion() {
+        // Given
+        String initial = orderChangeVersionRepository.current();
+
+        // When
+        sut.save(new Order("TEST-001", "版数一郎", Money.parse("1000.00"), OrderStatus.PENDING));
+        String saved = orderChangeVersionRepository.current();
+        sut.transitionStatus("TEST-001", OrderStatus.COMPLETED, null);
+        String rejected = orderChangeVersionRepository.current();
+        sut.transitionStatus("TEST-001", OrderStatus.CONFIRMED, null);
+        String transitioned = orderChangeVersionRepository.current();
+        sut.deleteAll();
+        String deleted = orderChangeVersionRepository.current();
+
+        // Then
+        assertThat(saved).isNotEqualTo(initial);
+        assertThat(rejected).isEqualTo(saved);
+        assertThat(transitioned).isNotEqualTo(saved);
+        assertThat(deleted).isNotEqualTo(transitioned);
+    }
+
+    @Test
+    void testTransitionStatus_Bulk() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().plusHours(1);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "一括一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "一括二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "一括三郎",
+                new BigDecimal("3000.00"), OrderStatus.SHIPPED);
+        insertOrderWithFixedId(TEST_UUID_4, "TEST-004", "一括四郎",
+                new BigDecimal("4000.00"), OrderStatus.PENDING);
+        entityManager.createNativeQuery("UPDATE orders SET created_at = :createdAt WHERE order_number = 'TEST-004'")
+                .setParameter("createdAt", cutoff.plusHours(1))
+                .executeUpdate();
+
+        // When
+        int updated = sut.transitionStatus(OrderStatus.PENDING, OrderStatus.CONFIRMED, cutoff);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(sut.findByStatus(OrderStatus.CONFIRMED))
+                .extracting(Order::orderNumber)
+                .containsExactly("TEST-001", "TEST-002");
+        assertThat(sut.findByStatus(OrderStatus.PENDING))
+                .extracting(Order::orderNumber)
+                .containsExactly("TEST-004");
+    }
+
+    @Test
+    void testTransitionStatus_BulkIllegalTransition() {
+        // When & Then
+        assertThatThrownBy(() -> sut.transitionStatus(OrderStatus.COMPLETED, OrderStatus.PENDING,
+                LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUpdateChunk_ResumesAfterLastId() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().plusHours(1);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "分割一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "分割二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "分割三郎",
+                new BigDecimal("3000.00"), OrderStatus.PENDING);
+
+        // When
+        OrderStatusUpdater.Chunk first = orderStatusUpdater.updateChunk(
+                OrderStatus.PENDING, OrderStatus.CANCELLED, cutoff, UuidBytes.MIN_VALUE, 2);
+        OrderStatusUpdater.Chunk second = orderStatusUpdater.updateChunk(
+                OrderStatus.PENDING, OrderStatus.CANCELLED, cutoff, first.next(), 2);
+
+        // Then
+        assertThat(first).isEqualTo(new OrderStatusUpdater.Chunk(2, Money.parse("3000.00"), TEST_UUID_2));
+        assertThat(second).isEqualTo(new OrderStatusUpdater.Chunk(1, Money.parse("3000.00"), null));
+    }
+
+    @Test
+    void testDeleteAll() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "削除一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "削除二郎",
+                new BigDecimal("2000.00"), OrderStatus.COMPLETED);
+
+        // When
+        sut.deleteAll();
+
+        // Then
+        assertThat(countRows("orders")).isZero();
+        assertThat(countRows("order_name_grams")).isZero();
+    }
+
+    @Test
+    void testDeleteChunk() {
+        // Given
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "削除一郎",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "削除二郎",
+                new BigDecimal("2000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "削除三郎",
+                new BigDecimal("3000.00"), OrderStatus.PENDING);
+
+        // When
+        int first = orderPurger.deleteChunk(2);
+        List<Order> remaining = sut.findAll();
+        int second = orderPurger.deleteChunk(2);
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(remaining).extracting(Order::orderNumber).containsExactly("TEST-003");
+        assertThat(second).isEqualTo(1);
+        assertThat(countRows("orders")).isZero();
+    }
+
+    @Test
+    void testArchive() {
+        // Given
+        // TEST_UUID_* は 2025-01-15 頃のミリ秒を持つ UUIDv7。newerUuid はその 1 ミリ秒後
+        UUID newerUuid = UUID.fromString("019469e0-0001-7000-8000-000000000009");
+        Instant cutoff = Instant.ofEpochMilli(TEST_UUID_1.getMostSignificantBits() >>> 16).plusMillis(1);
+        insertOrderWithFixedId(TEST_UUID_1, "TEST-001", "保管一郎",
+                new BigDecimal("1000.00"), OrderStatus.COMPLETED);
+        insertOrderWithFixedId(TEST_UUID_2, "TEST-002", "保管二郎",
+                new BigDecimal("2000.00"), OrderStatus.CANCELLED);
+        insertOrderWithFixedId(TEST_UUID_3, "TEST-003", "保管三郎",
+                new BigDecimal("3000.00"), OrderStatus.SHIPPED);
+        insertOrderWithFixedId(newerUuid, "TEST-004", "保管四郎",
+                new BigDecimal("4000.00"), OrderStatus.COMPLETED);
+        List<Object> events = new ArrayList<>();
+        OrderArchiver archiver = new OrderArchiver(orderPurger, events::add, Clock.fixed(cutoff, ZoneOffset.UTC),
+                Set.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED), Duration.ZERO, 1, Duration.ZERO);
+
+        // When
+        archiver.archiveExpired();
+
+        // Then
+        assertThat(sut.findAll()).extracting(Order::orderNumber).containsExactly("TEST-003", "TEST-004");
+        assertThat(countRows("orders_archive")).isEqualTo(2);
+        assertThat(sut.findByCustomerNameContaining("保管", 10))
+                .extracting(Order::orderNumber)
+                .containsExactly("TEST-003", "TEST-004");
+        assertThat(events).containsExactly(
+                new OrdersArchivedEvent(1, List.of(
+                        new OrdersArchivedEvent.StatusTotal(OrderStatus.COMPLETED, 1, Money.parse("1000.00")))),
+                new OrdersArchivedEvent(1, List.of(
+                        new OrdersArchivedEvent.StatusTotal(OrderStatus.CANCELLED, 1, Money.parse("2000.00")))));
+    }
+
+    @Test
+    void testFindCreatedBetween_Boundaries() {
+        // Given
+        // [from, to) の境界の内側・外側に 1 件ずつ置く
+        long from = 1_767_225_600_000L; // 2026-01-01T00:00:00Z
+        long to = from + 60_000;
+        insertOrderWithFixedId(uuidV7(from - 1, 0xFFF, 0x3FFF_FFFF_FFFF_FFFFL), "TEST-001", "範囲前",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(uuidV7(from, 0, 0), "TEST-002", "範囲先頭",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(uuidV7(to - 1, 0xFFF, 0x3FFF_FFFF_FFFF_FFFFL), "TEST-003", "範囲末尾",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(uuidV7(to, 0, 0), "TEST-004", "範囲後",
+                new BigDecimal("1000.00"), OrderStatus.PENDING);
+
+        // When
+        OrderPage page = sut.findCreatedBetween(Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), null, 10);
+
+        // Then
+        assertThat(page.orders()).extracting(Order::orderNumber).containsExactly("TEST-002", "TEST-003");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testFindCreatedBetween_UnsignedOrderAndPaging() {
+        // Given
+        // 最上位ビットが 1 の ID（西暦 6429 年以降）は UUID.compareTo では先頭に来るが、BINARY(16) では末尾に来る
+        long from = 1_767_225_600_000L;
+        long highBit = 1L << 47;
+        UUID early = uuidV7(from, 0, 1);
+        UUID late = uuidV7(highBit, 0, 1);
+        insertOrderWithFixedId(late, "TEST-002", "未来太郎", new BigDecimal("1000.00"), OrderStatus.PENDING);
+        insertOrderWithFixedId(early, "TEST-001", "現在太郎", new BigDecimal("1000.00"), OrderStatus.PENDING);
+        Instant to = Instant.ofEpochMilli(highBit + 1);
+
+        // When
+        OrderPage first = sut.findCreatedBetween(Instant.ofEpochMilli(from), to, null, 1);
+        OrderPage second = sut.findCreatedBetween(Instant.ofEpochMilli(from), to, first.nextCursor(), 1);
+
+        // Then
+        assertThat(late.compareTo(early)).isNegative();
+        assertThat(new UUIDComparator().compare(early, late)).isNegative();
+        assertThat(first.orders()).extracting(Order::orderNumber).containsExactly("TEST-001");
+        assertThat(second.orders()).extracting(Order::orderNumber).containsExactly("TEST-002");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    /**
+     * 指定したミリ秒・カウンター・rand_b を持つ UUIDv7
+     */
+    private static UUID uuidV7(long millis, long counter, long randB) {
+        return new UUID((millis << 16) | 0x7000L | counter, 0x8000_0000_0000_0000L | randB);
+    }
+
+    private long countRows(String table) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult())
+                .longValue();
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.app.infra.common;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private final AimdConcurrencyLimiter reads = new AimdConcurrencyLimiter(
+            1, 1, 10, Duration.ofSeconds(1), 0.5, () -> 0L);
+    private final AimdConcurrencyLimiter writes = new AimdConcurrencyLimiter(
+            4, 1, 10, Duration.ofSeconds(1), 0.5, () -> 0L);
+
+    private final AdaptiveConcurrencyFilter sut = new AdaptiveConcurrencyFilter(reads, writes,
+            Set.of("/orders/batch"));
+
+    @Test
+    void testRejectsReadWhenReadLimitIsReached() throws Exception {
+        // Given
+        reads.tryAcquire();
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain chain = (req, res) -> calls.incrementAndGet();
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        MockHttpServletResponse write = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("GET", "/orders"), read, chain);
+        sut.doFilter(new MockHttpServletRequest("POST", "/orders"), write, chain);
+
+        // Then
+        assertThat(read.getStatus()).isEqualTo(503);
+        assertThat(read.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(AdaptiveConcurrencyFilter.RETRY_AFTER_SECONDS);
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(calls).hasValue(1);
+        assertThat(reads.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testServerErrorDecreasesLimit() throws Exception {
+        // Given
+        FilterChain chain = (req, res) -> ((MockHttpServletResponse) res).setStatus(500);
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("PUT", "/orders/ORD-001/status"), new MockHttpServletResponse(),
+                chain);
+
+        // Then
+        assertThat(writes.limit()).isEqualTo(2);
+        assertThat(writes.inFlight()).isZero();
+        assertThat(reads.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void testExcludedPathIsNotLimited() throws Exception {
+        // Given
+        writes.tryAcquire();
+        writes.tryAcquire();
+        writes.tryAcquire();
+        writes.tryAcquire();
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain chain = (req, res) -> calls.incrementAndGet();
+        MockHttpServletResponse batch = new MockHttpServletResponse();
+        MockHttpServletResponse single = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("POST", "/orders/batch"), batch, chain);
+        sut.doFilter(new MockHttpServletRequest("POST", "/orders"), single, chain);
+
+        // Then
+        assertThat(batch.getStatus()).isEqualTo(200);
+        assertThat(single.getStatus()).isEqualTo(503);
+        assertThat(calls).hasValue(1);
+        assertThat(writes.inFlight()).isEqualTo(4);
+    }
+}
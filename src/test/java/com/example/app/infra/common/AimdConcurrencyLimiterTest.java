@@ -0,0 +1,91 @@
+package com.example.app.infra.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void testRejectsWhenLimitIsReached() {
+        // Given
+        AimdConcurrencyLimiter sut = limiter(2, 1);
+        sut.tryAcquire();
+        sut.tryAcquire();
+
+        // When
+        AimdConcurrencyLimiter.Permit rejected = sut.tryAcquire();
+
+        // Then
+        assertThat(rejected).isNull();
+        assertThat(sut.inFlight()).isEqualTo(2);
+        assertThat(sut.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFastResponsesIncreaseLimit() {
+        // Given
+        AimdConcurrencyLimiter sut = limiter(2, 1);
+
+        // When
+        sut.tryAcquire().release(false);
+
+        // Then
+        assertThat(sut.limit()).isEqualTo(3);
+        assertThat(sut.inFlight()).isZero();
+    }
+
+    @Test
+    void testLimitDoesNotGrowWhileUnderused() {
+        // Given
+        AimdConcurrencyLimiter sut = limiter(10, 1);
+
+        // When
+        sut.tryAcquire().release(false);
+
+        // Then
+        assertThat(sut.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void testOverlappingSlowResponsesDecreaseLimitOnce() {
+        // Given
+        AimdConcurrencyLimiter sut = limiter(10, 1);
+        AimdConcurrencyLimiter.Permit first = sut.tryAcquire();
+        AimdConcurrencyLimiter.Permit second = sut.tryAcquire();
+        nanoTime.addAndGet(THRESHOLD.toNanos() * 2);
+
+        // When
+        first.release(false);
+        second.release(false);
+        int afterOverlapping = sut.limit();
+        sut.tryAcquire().release(true);
+
+        // Then
+        assertThat(afterOverlapping).isEqualTo(9);
+        assertThat(sut.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void testLimitDoesNotFallBelowMinimum() {
+        // Given
+        AimdConcurrencyLimiter sut = limiter(2, 2);
+
+        // When
+        sut.tryAcquire().release(true);
+
+        // Then
+        assertThat(sut.limit()).isEqualTo(2);
+    }
+
+    private AimdConcurrencyLimiter limiter(int initialLimit, int minLimit) {
+        return new AimdConcurrencyLimiter(initialLimit, minLimit, 100, THRESHOLD, 0.9, nanoTime::get);
+    }
+}
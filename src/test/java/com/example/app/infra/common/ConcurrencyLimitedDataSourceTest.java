@@ -0,0 +1,63 @@
+package com.example.app.infra.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @Test
+    void testPermitIsReleasedOnClose() throws SQLException {
+        // Given
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource sut = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10));
+
+        // When
+        Connection first = sut.getConnection();
+
+        // Then
+        assertThat(sut.availablePermits()).isZero();
+        assertThat(((ConnectionProxy) first).getTargetConnection()).isSameAs(connection);
+        first.close();
+        first.close();
+        verify(connection, times(2)).close();
+        assertThat(sut.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void testTimesOutWhenAllPermitsAreInUse() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource sut = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10));
+        sut.getConnection();
+
+        // When & Then
+        assertThatThrownBy(sut::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void testPermitIsReleasedWhenTargetFails() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        ConcurrencyLimitedDataSource sut = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10));
+
+        // When & Then
+        assertThatThrownBy(sut::getConnection).hasMessage("down");
+        assertThat(sut.availablePermits()).isEqualTo(1);
+    }
+}
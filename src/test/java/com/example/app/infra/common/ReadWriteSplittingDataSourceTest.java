@@ -0,0 +1,93 @@
+package com.example.app.infra.common;
+
+import com.example.app.infra.common.ReadWriteSplittingDataSource.LoadBalancing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteSplittingDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica0 = database("replica-0");
+    private final DataSource replica1 = database("replica-1");
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        for (DataSource dataSource : List.of(primary, replica0, replica1)) {
+            new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        // Given
+        ReadWriteSplittingDataSource sut = new ReadWriteSplittingDataSource(
+                primary, List.of(replica0), LoadBalancing.ROUND_ROBIN);
+
+        // When
+        String readNode = nodeName(sut, true);
+        String writeNode = nodeName(sut, false);
+
+        // Then
+        assertThat(readNode).isEqualTo("replica-0");
+        assertThat(writeNode).isEqualTo("primary");
+    }
+
+    @Test
+    void testRoundRobin() {
+        // Given
+        ReadWriteSplittingDataSource sut = new ReadWriteSplittingDataSource(
+                primary, List.of(replica0, replica1), LoadBalancing.ROUND_ROBIN);
+
+        // When
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(nodeName(sut, true));
+        }
+
+        // Then
+        assertThat(nodes).containsOnly("replica-0", "replica-1");
+        assertThat(nodes.get(0)).isNotEqualTo(nodes.get(1));
+        assertThat(nodes.subList(2, 4)).isEqualTo(nodes.subList(0, 2));
+    }
+
+    @Test
+    void testPinnedToPrimary() {
+        // Given
+        ReadWriteSplittingDataSource sut = new ReadWriteSplittingDataSource(
+                primary, List.of(replica0), LoadBalancing.LEAST_BUSY);
+        ReadYourWritesContext.pinToPrimary();
+
+        // When
+        String readNode = nodeName(sut, true);
+
+        // Then
+        assertThat(readNode).isEqualTo("primary");
+    }
+
+    private static String nodeName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
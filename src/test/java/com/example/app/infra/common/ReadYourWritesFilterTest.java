@@ -0,0 +1,61 @@
+package com.example.app.infra.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter sut = new ReadYourWritesFilter(
+            Duration.ofSeconds(2), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void testWritePinsRequestAndSetsCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean pinned = pinnedDuring(request, response);
+
+        // Then
+        assertThat(pinned).isTrue();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME))
+                .extracting(Cookie::getValue, Cookie::getMaxAge)
+                .containsExactly(Long.toString(NOW.toEpochMilli()), 2);
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void testReadAfterRecentWriteIsPinned() throws Exception {
+        // Given
+        MockHttpServletRequest recent = new MockHttpServletRequest("GET", "/orders/ORD-001");
+        recent.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli() - 1_000)));
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/orders/ORD-001");
+        stale.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli() - 2_000)));
+
+        // When & Then
+        assertThat(pinnedDuring(recent, new MockHttpServletResponse())).isTrue();
+        assertThat(pinnedDuring(stale, new MockHttpServletResponse())).isFalse();
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse())).isFalse();
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary());
+        sut.doFilter(request, response, chain);
+        return pinned.get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.app.infra.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final List<Set<String>> loads = new CopyOnWriteArrayList<>();
+
+    /**
+     * "NOT-EXIST" 以外のキーを小文字にして返す
+     */
+    private final Function<Set<String>, Map<String, String>> loader = keys -> {
+        loads.add(Set.copyOf(keys));
+        return keys.stream()
+                .filter(key -> !key.equals("NOT-EXIST"))
+                .collect(Collectors.toMap(Function.identity(), String::toLowerCase));
+    };
+
+    @Test
+    void testConcurrentCallsAreMergedAndDeduplicated() throws Exception {
+        // Given
+        RequestCoalescer<String, String> sut = new RequestCoalescer<>(loader, Duration.ofSeconds(1), 100);
+        List<String> keys = List.of("ORD-001", "ORD-002", "ORD-001", "NOT-EXIST");
+
+        // When
+        List<String> results = getConcurrently(sut, keys);
+
+        // Then
+        assertThat(results).containsExactly("ord-001", "ord-002", "ord-001", null);
+        assertThat(loads).containsExactly(Set.of("ORD-001", "ORD-002", "NOT-EXIST"));
+    }
+
+    @Test
+    void testFullBatchIsLoadedWithoutWaiting() throws Exception {
+        // Given
+        RequestCoalescer<String, String> sut = new RequestCoalescer<>(loader, Duration.ofMinutes(1), 2);
+
+        // When
+        List<String> results = getConcurrently(sut, List.of("ORD-001", "ORD-002"));
+
+        // Then
+        assertThat(results).containsExactly("ord-001", "ord-002");
+        assertThat(loads).containsExactly(Set.of("ORD-001", "ORD-002"));
+    }
+
+    @Test
+    void testLoaderFailureIsPropagated() {
+        // Given
+        RequestCoalescer<String, String> sut = new RequestCoalescer<>(keys -> {
+            throw new IllegalStateException("down");
+        }, Duration.ZERO, 100);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.get("ORD-001"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("down");
+    }
+
+    private static List<String> getConcurrently(RequestCoalescer<String, String> sut, List<String> keys)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> futures = keys.stream()
+                    .map(key -> executor.submit(() -> {
+                        start.await();
+                        return sut.get(key);
+                    }))
+                    .toList();
+            start.countDown();
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
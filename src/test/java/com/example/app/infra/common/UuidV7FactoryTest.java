@@ -0,0 +1,94 @@
+package com.example.app.infra.common;
+
+import com.example.app.support.ConcurrentGeneration;
+import com.fasterxml.uuid.UUIDComparator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7FactoryTest {
+
+    // 2025-12-20T00:00:00Z
+    private static final long FIXED_MILLIS = 1766188800000L;
+
+    private final UUIDComparator comparator = new UUIDComparator();
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        // Given
+        UuidV7Factory sut = new UuidV7Factory(() -> FIXED_MILLIS);
+
+        // When
+        UUID uuid = sut.generate();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(FIXED_MILLIS);
+    }
+
+    @Test
+    void testMonotonicWithinSameMillisecond() {
+        // Given
+        UuidV7Factory sut = new UuidV7Factory(() -> FIXED_MILLIS);
+
+        // When
+        UUID previous = sut.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = sut.generate();
+
+            // Then
+            assertThat(comparator.compare(current, previous)).isPositive();
+            previous = current;
+        }
+    }
+
+    @Test
+    void testMonotonicWhenClockMovesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(FIXED_MILLIS);
+        UuidV7Factory sut = new UuidV7Factory(clock::get);
+
+        // When
+        UUID before = sut.generate();
+        clock.set(FIXED_MILLIS - 1000);
+        UUID after = sut.generate();
+
+        // Then
+        assertThat(comparator.compare(after, before)).isPositive();
+    }
+
+    @Test
+    void testUniqueAndOrderedUnderContention() throws Exception {
+        // BINARY(16) と同じ符号なしの順序で単調増加すること
+        ConcurrentGeneration.assertUniqueAndOrdered(UuidV7Factory.shared()::generate, comparator);
+    }
+
+    @Test
+    void testLowerBound() {
+        // Given
+        UuidV7Factory sut = new UuidV7Factory(() -> FIXED_MILLIS);
+        UUID generated = sut.generate();
+
+        // When
+        UUID bound = UuidV7Factory.lowerBound(Instant.ofEpochMilli(FIXED_MILLIS));
+        UUID nextBound = UuidV7Factory.lowerBound(Instant.ofEpochMilli(FIXED_MILLIS + 1));
+
+        // Then
+        assertThat(comparator.compare(bound, generated)).isNegative();
+        assertThat(comparator.compare(generated, nextBound)).isNegative();
+    }
+
+    @Test
+    void testLowerBound_OutOfRange() {
+        assertThatThrownBy(() -> UuidV7Factory.lowerBound(Instant.EPOCH.minusMillis(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UuidV7Factory.lowerBound(Instant.ofEpochMilli(1L << 48)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingOrderRepositoryTest {
+
+    private static final Order ORDER = new Order("ORD-001", "キャッシュ太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private OrderRepository delegate;
+    private Cache<String, Order> cache;
+    private CachingOrderRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OrderRepository.class);
+        cache = Caffeine.newBuilder()
+                .maximumSize(2)
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .ticker(ticker::get)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        sut = new CachingOrderRepository(delegate, cache);
+    }
+
+    @Test
+    void testFindByOrderNumber_CachesHit() {
+        // Given
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+
+        // When
+        Optional<Order> first = sut.findByOrderNumber("ORD-001");
+        Optional<Order> second = sut.findByOrderNumber("ORD-001");
+
+        // Then
+        assertThat(first).contains(ORDER);
+        assertThat(second).contains(ORDER);
+        verify(delegate, times(1)).findByOrderNumber("ORD-001");
+        assertThat(sut.stats().hitCount()).isEqualTo(1);
+        assertThat(sut.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindByOrderNumbers_LoadsOnlyMisses() {
+        // Given
+        Order other = new Order("ORD-002", "キャッシュ花子", Money.parse("2000.00"), OrderStatus.PENDING);
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        when(delegate.findByOrderNumbers(anyCollection())).thenReturn(List.of(other));
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        List<Order> found = sut.findByOrderNumbers(List.of("ORD-002", "NOT-EXIST", "ORD-001"));
+
+        // Then
+        assertThat(found).containsExactly(other, ORDER);
+        verify(delegate).findByOrderNumbers(argThat(numbers ->
+                numbers.size() == 2 && numbers.containsAll(List.of("ORD-002", "NOT-EXIST"))));
+    }
+
+    @Test
+    void testFindByOrderNumber_DoesNotCacheMissingOrder() {
+        // Given
+        when(delegate.findByOrderNumber("NOT-EXIST")).thenReturn(Optional.empty());
+
+        // When
+        sut.findByOrderNumber("NOT-EXIST");
+        Optional<Order> found = sut.findByOrderNumber("NOT-EXIST");
+
+        // Then
+        assertThat(found).isEmpty();
+        verify(delegate, times(2)).findByOrderNumber("NOT-EXIST");
+    }
+
+    @Test
+    void testSave_InvalidatesEntry() {
+        // Given
+        Order confirmed = new Order("ORD-001", "キャッシュ太郎", Money.parse("1000.00"), OrderStatus.CONFIRMED);
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER), Optional.of(confirmed));
+        when(delegate.save(confirmed)).thenReturn(confirmed);
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        sut.save(confirmed);
+
+        // Then
+        assertThat(sut.findByOrderNumber("ORD-001")).contains(confirmed);
+        verify(delegate, times(2)).findByOrderNumber("ORD-001");
+    }
+
+    @Test
+    void testSaveAll_InvalidatesEntries() {
+        // Given
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        sut.saveAll(List.of(ORDER));
+        sut.findByOrderNumber("ORD-001");
+
+        // Then
+        verify(delegate, times(2)).findByOrderNumber("ORD-001");
+    }
+
+    @Test
+    void testDeleteAll_InvalidatesAllEntries() {
+        // Given
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        sut.deleteAll();
+
+        // Then
+        assertThat(sut.estimatedSize()).isZero();
+        verify(delegate).deleteAll();
+    }
+
+    @Test
+    void testTransitionStatus_InvalidatesEntry() {
+        // Given
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        when(delegate.transitionStatus("ORD-001", OrderStatus.CONFIRMED, null)).thenReturn(true);
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        sut.transitionStatus("ORD-001", OrderStatus.CONFIRMED, null);
+        sut.findByOrderNumber("ORD-001");
+
+        // Then
+        verify(delegate, times(2)).findByOrderNumber("ORD-001");
+    }
+
+    @Test
+    void testBulkTransitionStatus_InvalidatesAllEntries() {
+        // Given
+        LocalDateTime createdBefore = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        sut.transitionStatus(OrderStatus.PENDING, OrderStatus.CONFIRMED, createdBefore);
+
+        // Then
+        assertThat(sut.estimatedSize()).isZero();
+        verify(delegate).transitionStatus(OrderStatus.PENDING, OrderStatus.CONFIRMED, createdBefore);
+    }
+
+    @Test
+    void testExpireAfterWrite() {
+        // Given
+        when(delegate.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        sut.findByOrderNumber("ORD-001");
+
+        // When
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        sut.findByOrderNumber("ORD-001");
+
+        // Then
+        verify(delegate, times(2)).findByOrderNumber("ORD-001");
+        assertThat(sut.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testMaximumSize() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            String orderNumber = "ORD-00" + i;
+            when(delegate.findByOrderNumber(orderNumber))
+                    .thenReturn(Optional.of(new Order(orderNumber, "キャッシュ太郎", Money.parse("1000.00"), OrderStatus.PENDING)));
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            sut.findByOrderNumber("ORD-00" + i);
+        }
+        cache.cleanUp();
+
+        // Then
+        assertThat(sut.estimatedSize()).isEqualTo(2);
+        assertThat(sut.stats().evictionCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrderStatusChangedEvent;
+import com.example.app.domain.order.OrdersCreatedEvent;
+import com.example.app.usecase.order.OrderChange;
+import com.example.app.usecase.order.OrderChangeFeed;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderChangeBroadcasterTest {
+
+    private static final long FIRST_ID = 1_000;
+
+    // 配信を呼び出し元スレッドで行う
+    private final OrderChangeBroadcaster sut = new OrderChangeBroadcaster(4, Runnable::run, FIRST_ID);
+
+    @Test
+    void testDeliversCreatedAndStatusChanged() {
+        // Given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(null, subscriber);
+
+        // When
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(order("ORD-001"), order("ORD-002"))));
+        sut.onOrderStatusChanged(new OrderStatusChangedEvent(
+                "ORD-001", OrderStatus.PENDING, OrderStatus.CONFIRMED, 1, Money.parse("1000.00")));
+
+        // Then
+        assertThat(subscriber.received).containsExactly(
+                "1000:ORDER_CREATED", "1001:ORDER_CREATED", "1002:STATUS_CHANGED");
+    }
+
+    @Test
+    void testResumesFromLastEventId() {
+        // Given
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(order("ORD-001"), order("ORD-002"), order("ORD-003"))));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // When
+        sut.subscribe(1000L, subscriber);
+
+        // Then
+        assertThat(subscriber.received).containsExactly("1001:ORDER_CREATED", "1002:ORDER_CREATED");
+    }
+
+    @Test
+    void testReportsMissedWhenLastEventIdIsOutOfRange() {
+        // Given
+        // 容量 4 に 6 件追記すると 1000, 1001 は上書きされる
+        for (int i = 0; i < 6; i++) {
+            sut.onOrdersCreated(new OrdersCreatedEvent(List.of(order("ORD-00" + i))));
+        }
+        RecordingSubscriber overwritten = new RecordingSubscriber();
+        RecordingSubscriber unknown = new RecordingSubscriber();
+        RecordingSubscriber resumable = new RecordingSubscriber();
+
+        // When
+        sut.subscribe(1000L, overwritten);
+        sut.subscribe(999_999L, unknown);
+        sut.subscribe(1001L, resumable);
+
+        // Then
+        assertThat(overwritten.received).containsExactly("missed");
+        assertThat(unknown.received).containsExactly("missed");
+        assertThat(resumable.received).containsExactly(
+                "1002:ORDER_CREATED", "1003:ORDER_CREATED", "1004:ORDER_CREATED", "1005:ORDER_CREATED");
+    }
+
+    @Test
+    void testFailingSubscriberIsCancelled() {
+        // Given
+        RecordingSubscriber healthy = new RecordingSubscriber();
+        sut.subscribe(null, healthy);
+        sut.subscribe(null, new RecordingSubscriber() {
+            @Override
+            public void onChange(OrderChange change) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        // When
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(order("ORD-001"))));
+        sut.heartbeat();
+
+        // Then
+        assertThat(sut.subscriberCount()).isEqualTo(1);
+        assertThat(healthy.received).containsExactly("1000:ORDER_CREATED", "heartbeat");
+    }
+
+    @Test
+    void testCancel() {
+        // Given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        OrderChangeFeed.Subscription subscription = sut.subscribe(null, subscriber);
+
+        // When
+        subscription.cancel();
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(order("ORD-001"))));
+
+        // Then
+        assertThat(subscriber.received).isEmpty();
+        assertThat(sut.subscriberCount()).isZero();
+    }
+
+    private static Order order(String orderNumber) {
+        return new Order(orderNumber, "配信太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+    }
+
+    private static class RecordingSubscriber implements OrderChangeFeed.Subscriber {
+
+        final List<String> received = new ArrayList<>();
+
+        @Override
+        public void onChange(OrderChange change) throws IOException {
+            received.add(change.id() + ":" + change.type());
+        }
+
+        @Override
+        public void onMissed() {
+            received.add("missed");
+        }
+
+        @Override
+        public void onHeartbeat() {
+            received.add("heartbeat");
+        }
+    }
+}
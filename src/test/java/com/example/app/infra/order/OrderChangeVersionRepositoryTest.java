@@ -0,0 +1,83 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.OrderChangeVersions;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OrderChangeVersionRepository.class)
+class OrderChangeVersionRepositoryTest {
+
+    private static final UUID TEST_UUID_1 = UUID.fromString("019469e0-0000-7000-8000-000000000001");
+
+    @Autowired
+    private OrderChangeVersionRepository sut;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testIncrementCreatesAndBumpsCounter() {
+        // Given: カウンターの行がない
+        String initial = sut.current();
+
+        // When
+        sut.increment();
+        String first = sut.current();
+        sut.increment();
+        String second = sut.current();
+
+        // Then
+        assertThat(initial).isEqualTo("0");
+        assertThat(first).isEqualTo("1");
+        assertThat(second).isEqualTo("2");
+    }
+
+    @Test
+    void testWithVersionReturnsCurrentVersionAndValue() {
+        // Given
+        sut.increment();
+
+        // When
+        OrderChangeVersions.Versioned<String> versioned = sut.withVersion(() -> "body");
+
+        // Then
+        assertThat(versioned).isEqualTo(new OrderChangeVersions.Versioned<>("1", "body"));
+    }
+
+    @Test
+    void testOfReturnsOrderVersion() {
+        // Given
+        insertOrder(TEST_UUID_1, "ORD-001");
+        entityManager.createNativeQuery("UPDATE orders SET version = version + 1 WHERE order_number = 'ORD-001'")
+                .executeUpdate();
+
+        // When & Then
+        assertThat(sut.of("ORD-001")).contains(OrderChangeVersions.fromOrder(order("ORD-001", 1)));
+        assertThat(sut.of("ORD-999")).isEmpty();
+    }
+
+    private void insertOrder(UUID id, String orderNumber) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO orders (id, order_number, customer_name, total_amount, status, created_at, "
+                                + "updated_at) VALUES (:id, :orderNumber, '版数太郎', 1000.00, 'PENDING', "
+                                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .setParameter("id", id)
+                .setParameter("orderNumber", orderNumber)
+                .executeUpdate();
+    }
+
+    private static Order order(String orderNumber, long version) {
+        return new Order(orderNumber, "版数太郎", Money.parse("1000.00"), OrderStatus.PENDING, version);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.infra.common.ReadYourWritesContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderLookupCoalescerTest {
+
+    private static final Order ORDER = new Order("ORD-001", "合流太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+
+    private final OrderReadRepository orderReadRepository = mock(OrderReadRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void testPinnedToPrimaryIsNotCoalesced() {
+        // Given: 合流すると 1 分待つ設定
+        when(orderReadRepository.findByOrderNumbers(List.of("ORD-001"))).thenReturn(List.of(ORDER));
+        OrderLookupCoalescer sut = new OrderLookupCoalescer(orderReadRepository, Duration.ofMinutes(1), 100);
+        ReadYourWritesContext.pinToPrimary();
+
+        // When
+        long start = System.nanoTime();
+        Optional<Order> result = sut.findByOrderNumber("ORD-001");
+
+        // Then
+        assertThat(result).contains(ORDER);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+        verify(orderReadRepository).findByOrderNumbers(List.of("ORD-001"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.OrderRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderMetricsAspectTest {
+
+    private static final Order ORDER = new Order("ORD-001", "計測太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderJpaRepository orderJpaRepository;
+    private OrderReadRepository orderReadRepository;
+    private OrderLookupCoalescer orderLookupCoalescer;
+    private OrderRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        orderJpaRepository = mock(OrderJpaRepository.class);
+        orderReadRepository = mock(OrderReadRepository.class);
+        orderLookupCoalescer = mock(OrderLookupCoalescer.class);
+        OrderRepositoryImpl target = new OrderRepositoryImpl(orderJpaRepository, new OrderMapper(),
+                mock(EntityManager.class), mock(OrderNameIndex.class), orderReadRepository,
+                orderLookupCoalescer, mock(OrderStatusUpdater.class), mock(OrderPurger.class),
+                mock(OrderChangeVersionRepository.class), event -> {
+        });
+        repository = proxy(target);
+    }
+
+    @Test
+    void testRecordsRepositoryLatencyAndRows() {
+        // Given
+        when(orderReadRepository.findAll()).thenReturn(List.of(ORDER, ORDER));
+
+        // When
+        repository.findAll();
+        repository.findAll();
+
+        // Then
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findAll", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_ROWS)
+                .tag("method", "findAll").summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    void testRecordsFailureWithExceptionTag() {
+        // Given
+        when(orderReadRepository.findByStatus(OrderStatus.PENDING)).thenThrow(new IllegalStateException("down"));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.findByStatus(OrderStatus.PENDING))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByStatus", "outcome", "error", "exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReusesErrorTimerForSameException() {
+        // Given
+        when(orderReadRepository.findByStatus(OrderStatus.PENDING)).thenThrow(new IllegalStateException("down"));
+
+        // When
+        assertThatThrownBy(() -> repository.findByStatus(OrderStatus.PENDING))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> repository.findByStatus(OrderStatus.PENDING))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByStatus", "outcome", "error").timers()).hasSize(1);
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByStatus", "outcome", "error").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordsCacheHitsOnCacheLayer() {
+        // Given: 2 回目はキャッシュから返り、DB 層まで到達しない
+        when(orderLookupCoalescer.findByOrderNumber("ORD-001")).thenReturn(Optional.of(ORDER));
+        OrderRepository caching = proxy(new CachingOrderRepository(repository,
+                Caffeine.newBuilder().<String, Order>build()));
+
+        // When
+        caching.findByOrderNumber("ORD-001");
+        caching.findByOrderNumber("ORD-001");
+
+        // Then
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByOrderNumber", "layer", OrderMetricsAspect.LAYER_CACHE).timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByOrderNumber", "layer", OrderMetricsAspect.LAYER_DATABASE).timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testCountsRowsPassedToConsumer() {
+        // Given
+        OrderMapper orderMapper = new OrderMapper();
+        OrderTable table = orderMapper.toTable(ORDER);
+        when(orderJpaRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(table, table, table));
+        List<Order> exported = new ArrayList<>();
+
+        // When
+        repository.exportAll(exported::add);
+
+        // Then
+        assertThat(exported).hasSize(3);
+        assertThat(meterRegistry.get(OrderMetricsAspect.REPOSITORY_ROWS)
+                .tag("method", "exportAll").summary().totalAmount()).isEqualTo(3);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OrderMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.app.infra.order;
+
+import com.example.app.infra.common.UuidBytes;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OrderNameIndex.class)
+class OrderNameIndexBackfillTest {
+
+    private static final UUID INDEXED_ID = UUID.fromString("019469e0-0000-7000-8000-000000000001");
+    private static final UUID LEGACY_ID = UUID.fromString("019469e0-0000-7000-8000-000000000002");
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderNameIndex orderNameIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void testBackfillIndexesOnlyOrdersWithoutGrams() {
+        // Given
+        // インデックス導入前の注文（gram なし）と、導入後に保存された注文（gram あり）
+        insertOrder(INDEXED_ID, "TEST-001", "山田太郎");
+        orderNameIndex.index(INDEXED_ID, "山田太郎");
+        insertOrder(LEGACY_ID, "TEST-002", "山田花子");
+        entityManager.flush();
+        OrderNameIndexBackfill sut = new OrderNameIndexBackfill(orderJpaRepository, orderNameIndex,
+                transactionManager, applicationContext);
+
+        // When
+        long first = sut.backfill();
+        entityManager.flush();
+        long second = sut.backfill();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(orderNameIndex.findCandidates("山田", UuidBytes.MIN_VALUE, 10))
+                .containsExactly(INDEXED_ID, LEGACY_ID);
+    }
+
+    private void insertOrder(UUID id, String orderNumber, String customerName) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO orders (id, order_number, customer_name, total_amount, status, created_at, "
+                                + "updated_at) VALUES (:id, :orderNumber, :customerName, 1000.00, 'PENDING', "
+                                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .setParameter("id", id)
+                .setParameter("orderNumber", orderNumber)
+                .setParameter("customerName", customerName)
+                .executeUpdate();
+    }
+}
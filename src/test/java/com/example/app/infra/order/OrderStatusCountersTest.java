@@ -0,0 +1,141 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.domain.order.OrderStatusChangedEvent;
+import com.example.app.domain.order.OrdersArchivedEvent;
+import com.example.app.domain.order.OrdersCreatedEvent;
+import com.example.app.usecase.order.OrderStatusSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatusCountersTest {
+
+    private OrderReadRepository orderReadRepository;
+    private OrderStatusCounters sut;
+
+    @BeforeEach
+    void setUp() {
+        orderReadRepository = mock(OrderReadRepository.class);
+        when(orderReadRepository.summarizeByStatus()).thenReturn(List.of(
+                new OrderStatusSummary(OrderStatus.PENDING, 2, Money.parse("300.10"))));
+        sut = new OrderStatusCounters(orderReadRepository);
+    }
+
+    @Test
+    void testSeedsOnceAndIncludesAllStatuses() {
+        // When
+        sut.summarizeByStatus();
+        List<OrderStatusSummary> summaries = sut.summarizeByStatus();
+
+        // Then
+        verify(orderReadRepository, times(1)).summarizeByStatus();
+        assertThat(summaries).extracting(OrderStatusSummary::status).containsExactly(OrderStatus.values());
+        assertThat(summaries.get(0)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.PENDING, 2, Money.parse("300.10")));
+        assertThat(summaries.get(1)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.CONFIRMED, 0, Money.parse("0.00")));
+    }
+
+    @Test
+    void testAddsCreatedOrdersWithoutQuerying() {
+        // Given
+        sut.summarizeByStatus();
+
+        // When
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(
+                new Order("ORD-001", "加算太郎", Money.parse("0.10"), OrderStatus.PENDING),
+                new Order("ORD-002", "加算花子", Money.parse("0.20"), OrderStatus.PENDING),
+                new Order("ORD-003", "加算次郎", Money.parse("50.00"), OrderStatus.CONFIRMED))));
+
+        // Then
+        verify(orderReadRepository, times(1)).summarizeByStatus();
+        List<OrderStatusSummary> summaries = sut.summarizeByStatus();
+        assertThat(summaries.get(0)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.PENDING, 4, Money.parse("300.40")));
+        assertThat(summaries.get(1)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.CONFIRMED, 1, Money.parse("50.00")));
+    }
+
+    @Test
+    void testReconcileReplacesDriftedCounters() {
+        // Given
+        sut.summarizeByStatus();
+        sut.onOrdersCreated(new OrdersCreatedEvent(List.of(
+                new Order("ORD-001", "補正太郎", Money.parse("100.00"), OrderStatus.SHIPPED))));
+        when(orderReadRepository.summarizeByStatus()).thenReturn(List.of());
+
+        // When
+        sut.reconcileIfInitialized();
+
+        // Then
+        assertThat(sut.summarizeByStatus()).allSatisfy(summary -> assertThat(summary.count()).isZero());
+    }
+
+    @Test
+    void testMovesChangedOrdersBetweenStatusesWithoutQuerying() {
+        // Given
+        sut.summarizeByStatus();
+
+        // When
+        sut.onOrderStatusChanged(new OrderStatusChangedEvent(
+                null, OrderStatus.PENDING, OrderStatus.CONFIRMED, 2, Money.parse("300.10")));
+
+        // Then
+        verify(orderReadRepository, times(1)).summarizeByStatus();
+        List<OrderStatusSummary> summaries = sut.summarizeByStatus();
+        assertThat(summaries.get(0)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.PENDING, 0, Money.parse("0.00")));
+        assertThat(summaries.get(1)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.CONFIRMED, 2, Money.parse("300.10")));
+    }
+
+    @Test
+    void testSubtractsArchivedOrdersWithoutQuerying() {
+        // Given
+        sut.summarizeByStatus();
+
+        // When
+        sut.onOrdersArchived(new OrdersArchivedEvent(1, List.of(
+                new OrdersArchivedEvent.StatusTotal(OrderStatus.PENDING, 1, Money.parse("100.00")))));
+
+        // Then
+        verify(orderReadRepository, times(1)).summarizeByStatus();
+        assertThat(sut.summarizeByStatus().get(0)).isEqualTo(
+                new OrderStatusSummary(OrderStatus.PENDING, 1, Money.parse("200.10")));
+    }
+
+    @Test
+    void testCreatesDuringReconcileAreNotLost() throws InterruptedException {
+        // Given: 再集計の DB 集計中に別スレッドで作成イベントが届く
+        sut.summarizeByStatus();
+        AtomicReference<Thread> creator = new AtomicReference<>();
+        when(orderReadRepository.summarizeByStatus()).thenAnswer(invocation -> {
+            Thread thread = new Thread(() -> sut.onOrdersCreated(new OrdersCreatedEvent(List.of(
+                    new Order("ORD-001", "競合太郎", Money.parse("1.00"), OrderStatus.SHIPPED)))));
+            creator.set(thread);
+            thread.start();
+            thread.join(100);
+            return List.of();
+        });
+
+        // When
+        sut.reconcile();
+        creator.get().join();
+
+        // Then
+        assertThat(sut.summarizeByStatus())
+                .filteredOn(summary -> summary.status() == OrderStatus.SHIPPED)
+                .containsExactly(new OrderStatusSummary(OrderStatus.SHIPPED, 1, Money.parse("1.00")));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.app.infra.order;
+
+import com.example.app.support.ConcurrentGeneration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimestampOrderNumberGeneratorTest {
+
+    // 2025-12-20T00:00:00Z
+    private static final long FIXED_MILLIS = 1766188800000L;
+
+    @Test
+    void testFormat() {
+        // Given
+        TimestampOrderNumberGenerator sut = new TimestampOrderNumberGenerator(7, () -> FIXED_MILLIS);
+
+        // When & Then
+        assertThat(sut.generate()).isEqualTo("ORD-202512200000000000070000");
+        assertThat(sut.generate()).isEqualTo("ORD-202512200000000000070001");
+    }
+
+    @Test
+    void testSequenceOverflowAdvancesLogicalClock() {
+        // Given
+        TimestampOrderNumberGenerator sut = new TimestampOrderNumberGenerator(1, () -> FIXED_MILLIS);
+
+        // When
+        String previous = null;
+        for (int i = 0; i < 4096; i++) {
+            previous = sut.generate();
+        }
+        String overflowed = sut.generate();
+
+        // Then
+        assertThat(previous).isEqualTo("ORD-202512200000000000014095");
+        assertThat(overflowed).isEqualTo("ORD-202512200000000010010000");
+    }
+
+    @Test
+    void testMonotonicWhenClockMovesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(FIXED_MILLIS);
+        TimestampOrderNumberGenerator sut = new TimestampOrderNumberGenerator(0, clock::get);
+
+        // When
+        String before = sut.generate();
+        clock.set(FIXED_MILLIS - 1000);
+        String after = sut.generate();
+
+        // Then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void testInvalidNodeId() {
+        assertThatThrownBy(() -> new TimestampOrderNumberGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimestampOrderNumberGenerator(TimestampOrderNumberGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUniqueAndOrderedUnderContention() throws Exception {
+        TimestampOrderNumberGenerator sut = new TimestampOrderNumberGenerator(42);
+        ConcurrentGeneration.assertUniqueAndOrdered(sut::generate, Comparator.naturalOrder());
+    }
+
+    @Test
+    void testDistinctNodesNeverCollide() {
+        // Given
+        TimestampOrderNumberGenerator node1 = new TimestampOrderNumberGenerator(1, () -> FIXED_MILLIS);
+        TimestampOrderNumberGenerator node2 = new TimestampOrderNumberGenerator(2, () -> FIXED_MILLIS);
+
+        // When
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 1000; i++) {
+            generated.add(node1.generate());
+            generated.add(node2.generate());
+        }
+
+        // Then
+        assertThat(generated).hasSize(2000);
+    }
+}
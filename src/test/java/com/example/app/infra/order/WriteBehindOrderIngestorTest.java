@@ -0,0 +1,176 @@
+package com.example.app.infra.order;
+
+import com.example.app.domain.common.Money;
+import com.example.app.domain.order.Order;
+import com.example.app.domain.order.OrderStatus;
+import com.example.app.usecase.order.IngestionStatus;
+import com.example.app.usecase.order.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindOrderIngestorTest {
+
+    private OrderRepository orderRepository;
+    private WriteBehindOrderIngestor sut;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findByOrderNumber("ORD-001")).thenReturn(Optional.of(order("ORD-001")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.stop();
+        }
+    }
+
+    @Test
+    void testRejectsBeforeStart() {
+        // Given
+        sut = new WriteBehindOrderIngestor(orderRepository, 10, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        // When & Then
+        assertThat(sut.offer(order("ORD-001"))).isFalse();
+    }
+
+    @Test
+    void testWritesQueuedOrdersAndReportsPersisted() {
+        // Given
+        sut = new WriteBehindOrderIngestor(orderRepository, 10, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        sut.start();
+
+        // When
+        assertThat(sut.offer(order("ORD-001"))).isTrue();
+
+        // Then
+        verify(orderRepository, timeout(5000)).saveAll(List.of(order("ORD-001")));
+        sut.stop();
+        assertThat(sut.status("ORD-001")).contains(IngestionStatus.PERSISTED);
+        assertThat(sut.status("ORD-999")).isEmpty();
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws InterruptedException {
+        // Given: 書き込みスレッドを 1 回目の saveAll で止める
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        }).when(orderRepository).saveAll(anyList());
+        sut = new WriteBehindOrderIngestor(orderRepository, 1, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        sut.start();
+        sut.offer(order("ORD-001"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        boolean second = sut.offer(order("ORD-002"));
+        boolean third = sut.offer(order("ORD-003"));
+
+        // Then
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(sut.status("ORD-002")).contains(IngestionStatus.QUEUED);
+        release.countDown();
+    }
+
+    @Test
+    void testStopFlushesRemainingOrders() {
+        // Given
+        sut = new WriteBehindOrderIngestor(orderRepository, 100, 100, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        sut.start();
+        for (int i = 0; i < 50; i++) {
+            sut.offer(order("ORD-" + i));
+        }
+
+        // When
+        sut.stop();
+
+        // Then
+        assertThat(sut.queueSize()).isZero();
+        assertThat(sut.offer(order("ORD-LATE"))).isFalse();
+    }
+
+    @Test
+    void testMarksOnlyFailingOrderAsFailed() {
+        // Given
+        when(orderRepository.saveAll(anyList())).thenThrow(new IllegalStateException("batch failed"));
+        when(orderRepository.save(order("ORD-BAD"))).thenThrow(new IllegalStateException("bad row"));
+        sut = new WriteBehindOrderIngestor(orderRepository, 10, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        // When
+        sut.start();
+        sut.offer(order("ORD-001"));
+        sut.offer(order("ORD-BAD"));
+        sut.stop();
+
+        // Then
+        assertThat(sut.status("ORD-BAD")).contains(IngestionStatus.FAILED);
+        assertThat(sut.status("ORD-001")).contains(IngestionStatus.PERSISTED);
+    }
+
+    @Test
+    void testRetriesTransientFailureWithoutFallingBackToRowByRow() {
+        // Given: 1 回目の一括保存だけ DB に接続できない
+        when(orderRepository.saveAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        sut = new WriteBehindOrderIngestor(orderRepository, 10, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        // When
+        sut.start();
+        sut.offer(order("ORD-001"));
+        sut.stop();
+
+        // Then
+        verify(orderRepository, times(2)).saveAll(List.of(order("ORD-001")));
+        verify(orderRepository, never()).save(any());
+        assertThat(sut.status("ORD-001")).contains(IngestionStatus.PERSISTED);
+    }
+
+    @Test
+    void testStopsAcceptingWhenWriterDies() throws InterruptedException {
+        // Given
+        when(orderRepository.saveAll(anyList())).thenThrow(new StackOverflowError());
+        sut = new WriteBehindOrderIngestor(orderRepository, 10, 10, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        sut.start();
+
+        // When
+        sut.offer(order("ORD-001"));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sut.isRunning() && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        assertThat(sut.isRunning()).isFalse();
+        assertThat(sut.offer(order("ORD-002"))).isFalse();
+        assertThat(sut.status("ORD-001")).contains(IngestionStatus.FAILED);
+    }
+
+    private static Order order(String orderNumber) {
+        return new Order(orderNumber, "受付太郎", Money.parse("1000.00"), OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.app.infra.secret;
+
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedSecretLoaderTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Instant NOW = Instant.parse("2025-12-20T00:00:00Z");
+    private static final String SECRET = "{\"url\":\"jdbc:h2:mem:db\",\"username\":\"sa\",\"password\":\"pw\"}";
+
+    @TempDir
+    private Path directory;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void testFetchesOnceAndServesRestartsFromCache() {
+        // Given
+        SecretSource source = secretId -> {
+            fetches.incrementAndGet();
+            return SECRET;
+        };
+
+        // When: 1 回目の起動と、TTL 内の再起動
+        String first = loader(source, NOW).load("/app/db");
+        String second = loader(source, NOW.plus(Duration.ofMinutes(30))).load("/app/db");
+
+        // Then
+        assertThat(first).isEqualTo(SECRET);
+        assertThat(second).isEqualTo(SECRET);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void testFallsBackToExpiredCacheWhenFetchFails() {
+        // Given
+        loader(secretId -> SECRET, NOW).load("/app/db");
+        SecretSource unavailable = secretId -> {
+            throw new IllegalStateException("unavailable");
+        };
+
+        // When
+        String loaded = loader(unavailable, NOW.plus(Duration.ofHours(2))).load("/app/db");
+
+        // Then
+        assertThat(loaded).isEqualTo(SECRET);
+    }
+
+    @Test
+    void testFailsWithoutCacheWhenFetchFails() {
+        // Given
+        SecretSource unavailable = secretId -> {
+            throw new IllegalStateException("unavailable");
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> loader(unavailable, NOW).load("/app/db"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRefreshUpdatesCache() {
+        // Given
+        CachedSecretLoader loader = loader(secretId -> SECRET.replace("pw", "rotated"), NOW);
+
+        // When
+        loader.refresh("/app/db");
+
+        // Then
+        assertThat(loader(secretId -> SECRET, NOW).load("/app/db")).contains("rotated");
+    }
+
+    @Test
+    void testToProperties() {
+        // When
+        Map<String, Object> properties = CachedSecretConfigDataLoader.toProperties(
+                "{\"url\":\"jdbc:mysql://db\",\"pool\":{\"size\":10}}", "db.");
+
+        // Then
+        assertThat(properties).containsExactly(
+                Map.entry("db.url", "jdbc:mysql://db"),
+                Map.entry("db.pool.size", "10"));
+    }
+
+    private CachedSecretLoader loader(SecretSource source, Instant now) {
+        EncryptedSecretCache cache = new EncryptedSecretCache(directory, KEY, Duration.ofHours(1),
+                Clock.fixed(now, ZoneOffset.UTC));
+        return new CachedSecretLoader(source, cache, LogFactory.getLog(CachedSecretLoaderTest.class));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.app.infra.secret;
+
+import com.example.app.infra.secret.EncryptedSecretCache.CachedSecret;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncryptedSecretCacheTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String OTHER_KEY = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final Instant NOW = Instant.parse("2025-12-20T00:00:00Z");
+    private static final String SECRET = "{\"username\":\"app_user\",\"password\":\"app_password\"}";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testRoundTripWithinTtl() throws IOException {
+        // Given
+        cacheAt(NOW).write("/app/db", SECRET);
+
+        // When
+        Optional<CachedSecret> cached = cacheAt(NOW.plus(Duration.ofMinutes(59))).read("/app/db");
+
+        // Then
+        assertThat(cached).hasValueSatisfying(secret -> {
+            assertThat(secret.value()).isEqualTo(SECRET);
+            assertThat(secret.fetchedAt()).isEqualTo(NOW);
+            assertThat(secret.expired()).isFalse();
+        });
+        try (Stream<Path> files = Files.list(directory)) {
+            Path file = files.findFirst().orElseThrow();
+            assertThat(Files.readString(file, StandardCharsets.ISO_8859_1)).doesNotContain("app_password");
+        }
+    }
+
+    @Test
+    void testExpiredAfterTtl() {
+        // Given
+        cacheAt(NOW).write("/app/db", SECRET);
+
+        // When
+        Optional<CachedSecret> cached = cacheAt(NOW.plus(Duration.ofHours(1))).read("/app/db");
+
+        // Then
+        assertThat(cached).hasValueSatisfying(secret -> assertThat(secret.expired()).isTrue());
+    }
+
+    @Test
+    void testIgnoresCacheEncryptedWithAnotherKey() {
+        // Given
+        cacheAt(NOW).write("/app/db", SECRET);
+
+        // When
+        Optional<CachedSecret> cached = new EncryptedSecretCache(directory, OTHER_KEY, Duration.ofHours(1), clockAt(NOW)).read("/app/db");
+
+        // Then
+        assertThat(cached).isEmpty();
+    }
+
+    @Test
+    void testMissingCache() {
+        assertThat(cacheAt(NOW).read("/app/unknown")).isEmpty();
+    }
+
+    private EncryptedSecretCache cacheAt(Instant instant) {
+        return new EncryptedSecretCache(directory, KEY, Duration.ofHours(1), clockAt(instant));
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+}
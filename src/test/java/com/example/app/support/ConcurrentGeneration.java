@@ -0,0 +1,60 @@
+package com.example.app.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 生成器の並行テスト用ヘルパー
+ */
+public final class ConcurrentGeneration {
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 20_000;
+
+    private ConcurrentGeneration() {
+    }
+
+    /**
+     * 複数スレッドから同時に生成し、全体で重複がなく、各スレッド内で order の昇順になることを検証
+     */
+    public static <T> void assertUniqueAndOrdered(Supplier<T> generator, Comparator<? super T> order)
+            throws Exception {
+        Set<T> generated = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    T previous = null;
+                    boolean ordered = true;
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        T value = generator.get();
+                        ordered &= previous == null || order.compare(value, previous) > 0;
+                        generated.add(value);
+                        previous = value;
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(generated).hasSize(THREADS * PER_THREAD);
+    }
+}
@@ -0,0 +1,41 @@
+#!/bin/bash
+# Compare two JMH JSON result files and flag regressions
+# Usage: compare-jmh.sh <baseline.json> <current.json> [threshold-percent]
+set -euo pipefail
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 <baseline.json> <current.json> [threshold-percent]" >&2
+    exit 2
+fi
+
+baseline=$1
+current=$2
+threshold=${3:-10}
+
+# Throughput (ops/time) は高いほど良く、AverageTime (time/op) は低いほど良い
+# ベースラインが空の場合は比較対象なし、ベースラインのスコアが 0 の場合は変化率を n/a とする
+report=$(jq -n -r --slurpfile base "$baseline" --slurpfile cur "$current" --argjson threshold "$threshold" '
+  def key: .benchmark + (if .params then " " + (.params | tostring) else "" end);
+  (($base[0] // []) | map({(key): .}) | add // {}) as $b
+  | ($cur[0] // [])[]
+  | key as $k
+  | select($b[$k] != null)
+  | ($b[$k].primaryMetric.score) as $old
+  | (.primaryMetric.score) as $new
+  | (if $old == 0 then null
+     elif .mode == "thrpt" then ($new - $old) / $old * 100
+     else ($old - $new) / $old * 100 end) as $gain
+  | [$k, .mode, ($old | tostring), ($new | tostring), .primaryMetric.scoreUnit,
+     (if $gain == null then "n/a" else (($gain * 10 | round) / 10 | tostring) + "%" end),
+     (if $gain != null and $gain < -$threshold then "REGRESSION" else "" end)]
+  | @tsv
+')
+
+printf 'benchmark\tmode\tbaseline\tcurrent\tunit\tchange\tstatus\n'
+if [ -n "$report" ]; then
+    printf '%s\n' "$report"
+fi
+
+if grep -q 'REGRESSION' <<< "$report"; then
+    exit 1
+fi
@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Measure the time from JVM launch to the first successful /hello and /orders response.
+#
+# Usage: startup.sh <label> <runs> <workdir> -- <java args...>
+# Prints one TSV line per run: label, run, hello_ms, orders_ms
+# /orders is requested with limit=1 so the result reflects readiness rather than table size.
+set -euo pipefail
+
+if [[ $# -lt 4 || $4 != "--" ]]; then
+    echo "Usage: $0 <label> <runs> <workdir> -- <java args...>" >&2
+    exit 2
+fi
+
+label=$1
+runs=$2
+workdir=$3
+shift 4
+
+port=${PORT:-8080}
+timeout_seconds=${STARTUP_TIMEOUT_SECONDS:-120}
+java_cmd=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Poll the path until it answers 2xx and print the elapsed milliseconds since $start
+wait_for() {
+    local path=$1
+    local deadline=$(( start + timeout_seconds * 1000 ))
+    until curl -sf -o /dev/null "http://localhost:${port}${path}"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before ${path} became ready (see ${log})" >&2
+            exit 1
+        fi
+        if (( $(now_millis) > deadline )); then
+            echo "Timed out waiting for ${path} (see ${log})" >&2
+            kill "$pid"
+            exit 1
+        fi
+        sleep 0.01
+    done
+    echo $(( $(now_millis) - start ))
+}
+
+for run in $(seq 1 "$runs"); do
+    log=$(mktemp -t "startup-${label}-${run}.XXXX.log")
+    start=$(now_millis)
+    (cd "$workdir" && exec "$java_cmd" "$@" --server.port="$port") >"$log" 2>&1 &
+    pid=$!
+    hello_ms=$(wait_for /hello)
+    orders_ms=$(wait_for "/orders?limit=1")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf "%s\t%d\t%d\t%d\n" "$label" "$run" "$hello_ms" "$orders_ms"
+done
@@ -1,23 +1,11 @@
 #!/bin/bash
-# Initialize Secrets Manager and Parameter Store with database credentials
+# Initialize Secrets Manager with database credentials
 
 echo "Creating secrets in LocalStack Secrets Manager..."
-# Create database URL parameter
+# Database connection settings as a single JSON secret (loaded with one GetSecretValue call)
 awslocal secretsmanager create-secret \
-    --name /app/db/url \
-    --secret-string "jdbc:mysql://localhost:3306/app_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Tokyo&characterEncoding=UTF-8" \
-    --region us-east-1
-
-# Create username secret (plaintext)
-awslocal secretsmanager create-secret \
-    --name /app/db/username \
-    --secret-string "app_user" \
-    --region us-east-1
-
-# Create password secret (plaintext)
-awslocal secretsmanager create-secret \
-    --name /app/db/password \
-    --secret-string "app_password" \
+    --name /app/db \
+    --secret-string '{"url":"jdbc:mysql://localhost:3306/app_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Tokyo&characterEncoding=UTF-8&useCursorFetch=true&rewriteBatchedStatements=true","username":"app_user","password":"app_password"}' \
     --region us-east-1
 
 echo "Secrets created successfully!"
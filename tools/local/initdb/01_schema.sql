@@ -5,8 +5,39 @@ CREATE TABLE IF NOT EXISTS orders (
     customer_name VARCHAR(100) NOT NULL,
     total_amount DECIMAL(10, 2) NOT NULL,
     status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_orders_order_number (order_number),
     INDEX idx_orders_status (status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Create customer name N-gram index table (1-gram and 2-gram per order)
+CREATE TABLE IF NOT EXISTS order_name_grams (
+    gram VARCHAR(8) NOT NULL,
+    order_id BINARY(16) NOT NULL,
+    PRIMARY KEY (gram, order_id),
+    INDEX idx_order_name_grams_order_id (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin;
+
+-- Create archive table for completed/cancelled orders (rows are moved from orders by the archive job)
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    order_number VARCHAR(50) NOT NULL,
+    customer_name VARCHAR(100) NOT NULL,
+    total_amount DECIMAL(10, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_orders_archive_order_number (order_number)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Create single-row order change counter (bumped in every transaction that writes orders; used for list ETags)
+CREATE TABLE IF NOT EXISTS order_change_version (
+    id INT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+INSERT IGNORE INTO order_change_version (id, version) VALUES (1, 0);
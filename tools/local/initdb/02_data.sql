@@ -1,6 +1,31 @@
 -- Insert sample data with fixed UUIDv7 values
+-- ID の先頭 48 ビットは created_at（UTC）の Unix ミリ秒（作成日時での検索は ID の範囲で行うため一致させる）
 -- UNHEX() で BINARY(16) に変換
 INSERT INTO orders (id, order_number, customer_name, total_amount, status, created_at, updated_at) VALUES
-(UNHEX(REPLACE('019469e0-0000-7000-8000-000000000001', '-', '')), 'ORD-001', '山田太郎', 15000.00, 'COMPLETED', '2025-12-01 10:00:00', '2025-12-01 10:00:00'),
-(UNHEX(REPLACE('019469e0-0000-7000-8000-000000000002', '-', '')), 'ORD-002', '鈴木花子', 8500.50, 'PENDING', '2025-12-10 14:30:00', '2025-12-10 14:30:00'),
-(UNHEX(REPLACE('019469e0-0000-7000-8000-000000000003', '-', '')), 'ORD-003', '佐藤次郎', 32000.00, 'SHIPPED', '2025-12-15 09:15:00', '2025-12-16 11:00:00');
+(UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', '')), 'ORD-001', '山田太郎', 15000.00, 'COMPLETED', '2025-12-01 10:00:00', '2025-12-01 10:00:00'),
+(UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', '')), 'ORD-002', '鈴木花子', 8500.50, 'PENDING', '2025-12-10 14:30:00', '2025-12-10 14:30:00'),
+(UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', '')), 'ORD-003', '佐藤次郎', 32000.00, 'SHIPPED', '2025-12-15 09:15:00', '2025-12-16 11:00:00');
+
+-- 顧客名 N-gram インデックス（1-gram と 2-gram）
+INSERT INTO order_name_grams (gram, order_id) VALUES
+('山', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('山田', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('田', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('田太', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('太', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('太郎', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('郎', UNHEX(REPLACE('019ad95a-d500-7000-8000-000000000001', '-', ''))),
+('鈴', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('鈴木', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('木', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('木花', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('花', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('花子', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('子', UNHEX(REPLACE('019b08ab-4240-7000-8000-000000000002', '-', ''))),
+('佐', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('佐藤', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('藤', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('藤次', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('次', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('次郎', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', ''))),
+('郎', UNHEX(REPLACE('019b214a-aa20-7000-8000-000000000003', '-', '')));